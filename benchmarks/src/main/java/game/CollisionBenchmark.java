@@ -0,0 +1,51 @@
+package game;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coste de colisión por tick según crece la mazmorra.
+ * "grid" consulta el índice espacial de la sala; "linear" recorre todas las paredes
+ * como hacía Player.update antes. Con la rejilla el coste debe mantenerse plano.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class CollisionBenchmark {
+
+    @Param({"30", "120", "480"})
+    public int cells;
+
+    private RoomDungeon room;
+    private StaticGeometry platforms;
+    private final IndexBuffer nearby = new IndexBuffer();
+    private Rectangle probe;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        room = new RoomDungeon(42, cells);
+        platforms = room.getPlatforms();
+        // el tamaño del jugador, apoyado en la pared inferior de la sala de la puerta
+        Rectangle door = room.getExitDoor();
+        probe = new Rectangle(door.x - 300, door.y, 40, 60);
+    }
+
+    @Benchmark
+    public int grid() {
+        return room.querySolids(probe.x, probe.y, probe.width, probe.height, nearby);
+    }
+
+    @Benchmark
+    public int linear() {
+        int hits = 0;
+        for (int i = 0; i < platforms.size(); i++) {
+            if (platforms.intersects(i, probe.x, probe.y, probe.width, probe.height)) hits++;
+        }
+        return hits;
+    }
+}
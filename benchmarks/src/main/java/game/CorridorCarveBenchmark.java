@@ -0,0 +1,63 @@
+package game;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Apertura de huecos de pasillo en las paredes (final de la generación) sobre una
+ * rejilla de salas unidas con sus vecinas de la derecha y de abajo. Paredes y pasillos
+ * crecen en proporción al número de salas; al preparar cada tamaño se imprimen.
+ * Incluye construir el índice de pasillos, que la generación también hace.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Benchmark)
+public class CorridorCarveBenchmark {
+
+    private static final int SPACING = 1500;
+    private static final int THICK = 60;
+
+    @Param({"100", "1000", "10000"})
+    public int rooms;
+
+    private List<Rectangle> walls;
+    private List<Rectangle> corridors;
+
+    @Setup(Level.Trial)
+    public void layout() {
+        int side = (int) Math.ceil(Math.sqrt(rooms));
+        Rectangle[] grid = new Rectangle[rooms];
+        for (int i = 0; i < rooms; i++) {
+            // tamaños variados dentro de la casilla para que los huecos no caigan alineados
+            int w = 900 + (i * 37) % 400, h = 700 + (i * 53) % 400;
+            grid[i] = new Rectangle((i % side) * SPACING, (i / side) * SPACING, w, h);
+        }
+        walls = new ArrayList<>();
+        corridors = new ArrayList<>();
+        for (int i = 0; i < rooms; i++) {
+            if (i % side + 1 < side && i + 1 < rooms) connect(grid[i], grid[i + 1]);
+            if (i + side < rooms) connect(grid[i], grid[i + side]);
+        }
+        for (Rectangle r : grid) RoomDungeon.addRoomWallsSegmented(r, THICK, 80, walls);
+        System.out.printf("%n# %d salas: %d paredes, %d pasillos%n", rooms, walls.size(), corridors.size());
+    }
+
+    private void connect(Rectangle a, Rectangle b) {
+        for (Rectangle c : RoomDungeon.lCorridorBetween(a, b, 120)) {
+            corridors.add(c);
+            RoomDungeon.addCorridorWalls(c, THICK, walls);
+        }
+    }
+
+    @Benchmark
+    public List<Rectangle> carve() {
+        return RoomDungeon.carveOpenings(walls, new StaticGeometry(corridors));
+    }
+}
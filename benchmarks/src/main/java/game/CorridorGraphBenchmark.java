@@ -0,0 +1,42 @@
+package game;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Árbol de expansión mínima más bucles sobre el grafo de vecinos (pasos 7-8 de la
+ * generación). El grafo se construye una vez; cada invocación baraja con la misma semilla.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Benchmark)
+public class CorridorGraphBenchmark {
+
+    @Param({"30", "1000", "10000"})
+    public int rooms;
+
+    private List<RoomDungeon.Edge> edges;
+
+    @Setup(Level.Trial)
+    public void graph() {
+        Random rng = new Random(42);
+        // misma densidad que una mazmorra: ~1500 px entre centros
+        int side = (int) (1500 * Math.sqrt(rooms));
+        List<Point> centers = new ArrayList<>(rooms);
+        for (int i = 0; i < rooms; i++) centers.add(new Point(rng.nextInt(side), rng.nextInt(side)));
+        edges = RoomDungeon.kNearestGraph(centers, 3);
+    }
+
+    @Benchmark
+    public List<RoomDungeon.Edge> connect() {
+        return RoomDungeon.connect(edges, rooms, new Random(7));
+    }
+}
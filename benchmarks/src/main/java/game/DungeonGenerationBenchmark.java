@@ -0,0 +1,32 @@
+package game;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coste de generar una mazmorra completa (celdas, separación, grafo, MST,
+ * pasillos, paredes y carving) con semillas fijas.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Benchmark)
+public class DungeonGenerationBenchmark {
+
+    @Param({"1", "42", "1337"})
+    public long seed;
+
+    // una vez por semilla: qué fase se lleva el tiempo y cuántas paredes quedan tras unirlas
+    @Setup(Level.Trial)
+    public void printStats() {
+        System.out.println("semilla " + seed + ": " + new RoomDungeon(seed).getStats());
+    }
+
+    @Benchmark
+    public RoomDungeon generate() {
+        return new RoomDungeon(seed);
+    }
+}
@@ -0,0 +1,64 @@
+package game;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Separación de celdas (paso 3 de la generación) con distinto número de celdas:
+ * la relajación por pares (la de las mazmorras normales) frente a la colocación en
+ * rejilla de una sola pasada (la de las grandes). Cada invocación parte de la misma
+ * dispersión inicial. Al preparar cada tamaño se imprime cuántas pasadas usó la
+ * relajación y si convergió antes del máximo.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class DungeonSeparationBenchmark {
+
+    private static final int MAX_ITERATIONS = 600;
+
+    @Param({"30", "100", "300", "1000", "2000"})
+    public int cells;
+
+    private List<Rectangle> initial;
+    private List<Rectangle> work;
+
+    @Setup(Level.Trial)
+    public void scatter() {
+        initial = RoomDungeon.scatterCells(new Random(42), cells);
+        List<Rectangle> probe = copy(initial);
+        int iterations = RoomDungeon.separate(probe, MAX_ITERATIONS);
+        System.out.printf("%n# %d celdas: %d pasadas%s%n", cells, iterations,
+                iterations < MAX_ITERATIONS ? "" : " (máximo, sin converger)");
+    }
+
+    @Setup(Level.Invocation)
+    public void reset() {
+        work = copy(initial);
+    }
+
+    @Benchmark
+    public int separate() {
+        return RoomDungeon.separate(work, MAX_ITERATIONS);
+    }
+
+    @Benchmark
+    public List<Rectangle> placeOnGrid() {
+        RoomDungeon.placeOnGrid(work);
+        return work;
+    }
+
+    private static List<Rectangle> copy(List<Rectangle> rects) {
+        List<Rectangle> out = new ArrayList<>(rects.size());
+        for (Rectangle r : rects) out.add(new Rectangle(r));
+        return out;
+    }
+}
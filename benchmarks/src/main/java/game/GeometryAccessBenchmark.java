@@ -0,0 +1,36 @@
+package game;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Acceso a la geometría de colisión de una sala tal como lo hace un tick:
+ * pedir getPlatforms() y recorrerla. Que no asigne memoria lo comprueba
+ * GeometryAccessAllocationTest; aquí solo se mide el tiempo.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class GeometryAccessBenchmark {
+
+    private Room room;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        room = new RoomDungeon(42);
+    }
+
+    @Benchmark
+    public long getPlatformsAndIterate() {
+        StaticGeometry solids = room.getPlatforms();
+        long sum = 0;
+        for (int i = 0; i < solids.size(); i++) {
+            sum += solids.x(i) + solids.y(i) + solids.width(i) + solids.height(i);
+        }
+        return sum;
+    }
+}
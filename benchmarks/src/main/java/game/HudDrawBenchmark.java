@@ -0,0 +1,54 @@
+package game;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HUD de corazones con la vida sin cambios: repintado widget a widget en cada frame
+ * frente a la capa cacheada de {@link HudLayer}, que solo copia su imagen.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class HudDrawBenchmark {
+
+    private BufferedImage target;
+    private Graphics2D g;
+    private HeartBarWidget widget;
+    private HudLayer layer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        target = new BufferedImage(1280, 720, BufferedImage.TYPE_INT_RGB);
+        g = target.createGraphics();
+        Player player = new Player(0, 0, 40, 40, 8, new GameClock());
+        SpriteAtlas.Sprite heart = SpriteAtlas.get().sprite("/items/heart.png", 32, 32);
+        widget = new HeartBarWidget(player, heart, 20, 20);
+        widget.update();
+        layer = new HudLayer();
+        layer.add(new HeartBarWidget(player, heart, 20, 20));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        g.dispose();
+    }
+
+    @Benchmark
+    public BufferedImage immediate() {
+        widget.paint(g, 1280, 720);
+        return target;
+    }
+
+    @Benchmark
+    public BufferedImage cachedLayer() {
+        layer.draw(g, 1280, 720);
+        return target;
+    }
+}
@@ -0,0 +1,61 @@
+package game;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Un frame del inventario abierto (pestaña de objetos, con la descripción del
+ * objeto seleccionado) y otro de la pestaña de pasivas.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class MenuDrawBenchmark {
+
+    private BufferedImage target;
+    private Graphics2D g;
+    private InventoryMenu inventoryMenu;
+    private PassiveMenu passiveMenu;
+    // el menú se dibuja desde la instantánea, como en el juego
+    private final RenderSnapshot view = new RenderSnapshot();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        target = new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB);
+        g = target.createGraphics();
+
+        Inventory inventory = new Inventory();
+        for (int i = 0; i < 8; i++) inventory.addItem(new HeartItem());
+        List<Passive> passives = List.of(new Passive("Vivir en bucles", "Alma",
+                "“Tu alma recuerda lo que tu mente \nolvidó.\nEstás atrapado en un ciclo que no \npuedes romper.”",
+                "Activo", "+1 regen/s"));
+        inventoryMenu = new InventoryMenu(inventory, passives);
+        inventoryMenu.toggle();
+        inventoryMenu.copyTo(view);
+        passiveMenu = new PassiveMenu(passives);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        g.dispose();
+    }
+
+    @Benchmark
+    public BufferedImage inventory() {
+        inventoryMenu.draw(g, view);
+        return target;
+    }
+
+    @Benchmark
+    public BufferedImage passives() {
+        passiveMenu.draw(g, 0);
+        return target;
+    }
+}
@@ -0,0 +1,41 @@
+package game;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Grafo de k vecinos más próximos entre centros de sala (paso 6 de la generación),
+ * con centros aleatorios repartidos como en una mazmorra grande.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Benchmark)
+public class NeighborGraphBenchmark {
+
+    @Param({"30", "1000", "5000"})
+    public int rooms;
+
+    private List<Point> centers;
+
+    @Setup(Level.Trial)
+    public void scatter() {
+        Random rng = new Random(42);
+        // misma densidad que una mazmorra: ~1500 px entre centros
+        int side = (int) (1500 * Math.sqrt(rooms));
+        centers = new ArrayList<>(rooms);
+        for (int i = 0; i < rooms; i++) centers.add(new Point(rng.nextInt(side), rng.nextInt(side)));
+    }
+
+    @Benchmark
+    public List<RoomDungeon.Edge> kNearest() {
+        return RoomDungeon.kNearestGraph(centers, 3);
+    }
+}
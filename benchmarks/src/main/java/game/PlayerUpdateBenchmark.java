@@ -0,0 +1,50 @@
+package game;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Un tick de física del jugador contra las paredes de una mazmorra.
+ * El jugador empieza junto a la puerta de salida (dentro de la sala más grande)
+ * y corre de un lado a otro, así que hay colisiones con suelo y paredes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class PlayerUpdateBenchmark {
+
+    private RoomDungeon room;
+    private GameClock clock;
+    private Player player;
+    private int tick;
+
+    @Setup(Level.Trial)
+    public void createRoom() {
+        room = new RoomDungeon(42);
+    }
+
+    @Setup(Level.Iteration)
+    public void placePlayer() {
+        Rectangle door = room.getExitDoor();
+        clock = new GameClock();
+        player = new Player(door.x - 300, door.y, 40, 40, 8, clock);
+        tick = 0;
+    }
+
+    @Benchmark
+    public int update() {
+        tick++;
+        clock.advance();
+        boolean right = (tick / 120) % 2 == 0;
+        player.pressRight(right);
+        player.pressLeft(!right);
+        if (tick % 45 == 0) player.pressJump();
+        player.update(room);
+        return player.getX() + player.getY();
+    }
+}
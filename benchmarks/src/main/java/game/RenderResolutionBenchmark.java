@@ -0,0 +1,81 @@
+package game;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Frame de mundo (sala + jugador) en una salida de 1920x1080, dibujado a resolución
+ * nativa o a una resolución interna ampliada por un factor entero con {@link RenderScaler}.
+ * El campo de visión es el mismo en todos los casos; solo cambia cuántos píxeles se rellenan.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class RenderResolutionBenchmark {
+
+    private static final int OUT_W = 1920;
+    private static final int OUT_H = 1080;
+
+    @Param({"nativa", "960x540", "640x360"})
+    public String resolution;
+
+    private RoomDungeon room;
+    private Player player;
+    private RenderScaler scaler;
+    private BufferedImage target;
+    private Graphics2D g;
+    private int cameraX;
+    private int cameraY;
+    private double upscale = 1;
+    private ActiveRenderer.Scene scene;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        room = new RoomDungeon(42);
+        Rectangle door = room.getExitDoor();
+        player = new Player(door.x - 200, door.y, 40, 40, 8, new GameClock());
+        cameraX = door.x - OUT_W / 2;
+        cameraY = door.y - OUT_H / 2;
+
+        target = new BufferedImage(OUT_W, OUT_H, BufferedImage.TYPE_INT_RGB);
+        g = target.createGraphics();
+        if (!resolution.equals("nativa")) {
+            String[] parts = resolution.split("x");
+            scaler = new RenderScaler(new Dimension(Integer.parseInt(parts[0]), Integer.parseInt(parts[1])));
+            upscale = scaler.scaleFor(OUT_W, OUT_H);
+        }
+        scene = (sg, w, h) -> drawWorld(sg, w, h, 1.0 / upscale);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (scaler != null) scaler.dispose();
+        g.dispose();
+    }
+
+    @Benchmark
+    public BufferedImage frame() {
+        if (scaler == null) {
+            scene.draw(g, OUT_W, OUT_H);
+        } else {
+            scaler.render(g, OUT_W, OUT_H, scene);
+        }
+        return target;
+    }
+
+    // lo mismo que Game.drawWorld
+    private void drawWorld(Graphics2D sg, int w, int h, double scale) {
+        sg.setColor(Color.BLACK);
+        sg.fillRect(0, 0, w, h);
+        sg.scale(scale, scale);
+        room.draw(sg, cameraX, cameraY, (int) Math.ceil(w / scale), (int) Math.ceil(h / scale));
+        player.draw(sg, cameraX, cameraY, 1.0);
+        sg.scale(1 / scale, 1 / scale);
+    }
+}
@@ -0,0 +1,77 @@
+package game;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dibujo de una mazmorra en una imagen fuera de pantalla de 1280x720,
+ * con la cámara en varias posiciones y niveles de zoom, y mazmorras de distinto tamaño.
+ * Con el recorte por vista el coste no debe crecer con el número de celdas,
+ * y con los niveles de detalle alejar el zoom no debe encarecerlo.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class RoomDrawBenchmark {
+
+    private static final int VIEW_W = 1280;
+    private static final int VIEW_H = 720;
+
+    /** Esquina del mapa, centro del mapa o junto a la puerta de salida. */
+    @Param({"corner", "center", "door"})
+    public String camera;
+
+    @Param({"1.0", "0.5", "0.25", "0.125"})
+    public double zoom;
+
+    @Param({"30", "240"})
+    public int cells;
+
+    private RoomDungeon room;
+    private BufferedImage target;
+    private Graphics2D g;
+    private int cameraX;
+    private int cameraY;
+    private int visibleW;
+    private int visibleH;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        room = new RoomDungeon(42, cells);
+        target = new BufferedImage(VIEW_W, VIEW_H, BufferedImage.TYPE_INT_RGB);
+        g = target.createGraphics();
+        g.scale(zoom, zoom);
+
+        visibleW = (int) Math.ceil(VIEW_W / zoom);
+        visibleH = (int) Math.ceil(VIEW_H / zoom);
+        switch (camera) {
+            case "corner" -> { cameraX = 0; cameraY = 0; }
+            case "center" -> {
+                cameraX = room.getWidth() / 2 - visibleW / 2;
+                cameraY = room.getHeight() / 2 - visibleH / 2;
+            }
+            default -> {
+                Rectangle door = room.getExitDoor();
+                cameraX = door.x - visibleW / 2;
+                cameraY = door.y - visibleH / 2;
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        g.dispose();
+    }
+
+    @Benchmark
+    public BufferedImage draw() {
+        room.draw(g, cameraX, cameraY, visibleW, visibleH);
+        return target;
+    }
+}
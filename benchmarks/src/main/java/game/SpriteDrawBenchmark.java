@@ -0,0 +1,73 @@
+package game;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Muchas entidades animadas (frames del jugador y corazones mezclados) dibujadas
+ * desde imágenes sueltas o desde las páginas del {@link SpriteAtlas}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class SpriteDrawBenchmark {
+
+    private static final String[] PATHS = {
+            "/player/idle1.png", "/player/idle2.png", "/player/idle3.png", "/items/heart.png"};
+
+    @Param({"50", "500"})
+    public int entities;
+
+    private BufferedImage target;
+    private Graphics2D g;
+    private int[] xs, ys, kinds;
+    private BufferedImage[] images;
+    private SpriteAtlas.Sprite[] sprites;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        target = new BufferedImage(1280, 720, BufferedImage.TYPE_INT_RGB);
+        g = target.createGraphics();
+
+        images = new BufferedImage[PATHS.length];
+        sprites = new SpriteAtlas.Sprite[PATHS.length];
+        for (int i = 0; i < PATHS.length; i++) {
+            images[i] = Assets.get().scaled(PATHS[i], 40, 40);
+            sprites[i] = SpriteAtlas.get().sprite(PATHS[i], 40, 40);
+        }
+
+        Random rnd = new Random(42);
+        xs = new int[entities];
+        ys = new int[entities];
+        kinds = new int[entities];
+        for (int i = 0; i < entities; i++) {
+            xs[i] = rnd.nextInt(1240);
+            ys[i] = rnd.nextInt(680);
+            kinds[i] = rnd.nextInt(PATHS.length);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        g.dispose();
+    }
+
+    @Benchmark
+    public BufferedImage separateImages() {
+        for (int i = 0; i < entities; i++) g.drawImage(images[kinds[i]], xs[i], ys[i], null);
+        return target;
+    }
+
+    @Benchmark
+    public BufferedImage atlas() {
+        for (int i = 0; i < entities; i++) sprites[kinds[i]].draw(g, xs[i], ys[i]);
+        return target;
+    }
+}
@@ -0,0 +1,22 @@
+package game;
+
+import java.awt.*;
+
+/**
+ * Pruebas de solapamiento entre cajas alineadas a los ejes usando enteros,
+ * para no crear Rectangle temporales en el bucle de juego.
+ * Misma semántica que Rectangle.intersects (tocarse en el borde no cuenta).
+ */
+public final class Aabb {
+
+    private Aabb() {}
+
+    public static boolean overlaps(int ax, int ay, int aw, int ah, int bx, int by, int bw, int bh) {
+        if (aw <= 0 || ah <= 0 || bw <= 0 || bh <= 0) return false;
+        return ax < bx + bw && bx < ax + aw && ay < by + bh && by < ay + ah;
+    }
+
+    public static boolean overlaps(Rectangle r, int x, int y, int w, int h) {
+        return overlaps(r.x, r.y, r.width, r.height, x, y, w, h);
+    }
+}
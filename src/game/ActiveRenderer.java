@@ -0,0 +1,87 @@
+package game;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.VolatileImage;
+
+/**
+ * Dibujo activo: la escena se pinta en un VolatileImage acelerado y se vuelca
+ * directamente sobre el componente, sin pasar por repaint() ni por el RepaintManager.
+ * Si la imagen pierde su contenido (cambio de modo, pantalla bloqueada...) se
+ * vuelve a dibujar el frame completo.
+ *
+ * No hay cambio de página ni espera al retrazado vertical: el componente es Swing, no
+ * un Canvas con BufferStrategy. Lo único opcional es vaciar el pipeline nativo tras
+ * cada volcado (Toolkit.sync), para que el frame no se quede en cola.
+ */
+public class ActiveRenderer {
+
+    /** Lo que se dibuja en cada frame. */
+    public interface Scene {
+        void draw(Graphics2D g, int width, int height);
+    }
+
+    // reintentos si el contenido se pierde una y otra vez
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final JComponent target;
+    private final boolean flushPipeline;
+    private VolatileImage buffer;
+
+    public ActiveRenderer(JComponent target, boolean flushPipeline) {
+        this.target = target;
+        this.flushPipeline = flushPipeline;
+    }
+
+    public boolean isFlushingPipeline() {
+        return flushPipeline;
+    }
+
+    /** Dibuja un frame; devuelve false si el componente aún no se puede pintar. */
+    public boolean render(Scene scene) {
+        int w = target.getWidth();
+        int h = target.getHeight();
+        GraphicsConfiguration gc = target.getGraphicsConfiguration();
+        if (w <= 0 || h <= 0 || gc == null || !target.isShowing()) return false;
+
+        int attempts = 0;
+        do {
+            if (buffer == null || buffer.getWidth() != w || buffer.getHeight() != h) {
+                recreate(gc, w, h);
+            }
+            if (buffer.validate(gc) == VolatileImage.IMAGE_INCOMPATIBLE) {
+                recreate(gc, w, h);
+            }
+
+            Graphics2D g = buffer.createGraphics();
+            try {
+                scene.draw(g, w, h);
+            } finally {
+                g.dispose();
+            }
+            if (buffer.contentsLost()) continue;
+
+            Graphics tg = target.getGraphics();
+            if (tg == null) return false;
+            try {
+                tg.drawImage(buffer, 0, 0, null);
+            } finally {
+                tg.dispose();
+            }
+            // vacía la cola del pipeline para que el frame llegue a pantalla ya
+            if (flushPipeline) Toolkit.getDefaultToolkit().sync();
+        } while (buffer.contentsLost() && ++attempts < MAX_ATTEMPTS);
+        return true;
+    }
+
+    /** Libera la memoria de vídeo del buffer. */
+    public void dispose() {
+        if (buffer != null) buffer.flush();
+        buffer = null;
+    }
+
+    private void recreate(GraphicsConfiguration gc, int w, int h) {
+        if (buffer != null) buffer.flush();
+        buffer = gc.createCompatibleVolatileImage(w, h);
+    }
+}
@@ -0,0 +1,158 @@
+package game;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Caché central de imágenes.
+ * Cada recurso se lee una sola vez (de forma síncrona, nada de frames en blanco),
+ * se convierte a una imagen compatible con la pantalla y se guarda. Las variantes
+ * escaladas también se guardan por tamaño, así drawImage nunca reescala al vuelo.
+ *
+ * Uso: Image heart = Assets.get().scaled("/items/heart.png", 32, 32);
+ */
+public class Assets {
+
+    private static final Assets INSTANCE = new Assets();
+
+    // clave de una variante escalada: imagen original (por identidad) y tamaño
+    private record Variant(Image source, int width, int height) {}
+
+    private final GraphicsConfiguration gc;
+    private final Map<String, BufferedImage> images = new HashMap<>();
+    private final Map<Variant, BufferedImage> variants = new HashMap<>();
+    // estadísticas por entrada, en orden de carga
+    private final Map<String, Long> loadNanos = new LinkedHashMap<>();
+    private final Map<String, Long> entryBytes = new LinkedHashMap<>();
+
+    private Assets() {
+        gc = GraphicsEnvironment.isHeadless() ? null
+                : GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+    }
+
+    /** Caché compartida por toda la ejecución. */
+    public static Assets get() {
+        return INSTANCE;
+    }
+
+    /** La imagen del classpath a tamaño original, o null si no existe o no se puede leer. */
+    public synchronized BufferedImage image(String path) {
+        if (images.containsKey(path)) return images.get(path);
+
+        long start = System.nanoTime();
+        BufferedImage result = null;
+        try (InputStream in = Assets.class.getResourceAsStream(path)) {
+            BufferedImage raw = in == null ? null : ImageIO.read(in);
+            if (raw != null) {
+                result = createImage(raw.getWidth(), raw.getHeight(), raw.getColorModel().hasAlpha());
+                Graphics2D g = result.createGraphics();
+                g.drawImage(raw, 0, 0, null);
+                g.dispose();
+            } else {
+                System.err.println("No se encontró el recurso " + path);
+            }
+        } catch (IOException e) {
+            System.err.println("No se pudo cargar " + path + ": " + e.getMessage());
+        }
+        // también se guarda el fallo, para no reintentarlo en cada llamada
+        images.put(path, result);
+        track(path, result, System.nanoTime() - start);
+        return result;
+    }
+
+    /** La imagen del classpath escalada a width x height, o null si no existe. */
+    public synchronized BufferedImage scaled(String path, int width, int height) {
+        BufferedImage source = image(path);
+        return source == null ? null : scaled(source, width, height);
+    }
+
+    /** Variante de width x height de cualquier imagen (se guarda por identidad de la original). */
+    public synchronized BufferedImage scaled(Image source, int width, int height) {
+        if (source == null) return null;
+        if (source.getWidth(null) == width && source.getHeight(null) == height && source instanceof BufferedImage b) {
+            return b;
+        }
+        Variant key = new Variant(source, width, height);
+        BufferedImage cached = variants.get(key);
+        if (cached != null) return cached;
+
+        long start = System.nanoTime();
+        BufferedImage result = downscale(source, width, height);
+        variants.put(key, result);
+        track(nameOf(source) + "@" + width + "x" + height, result, System.nanoTime() - start);
+        return result;
+    }
+
+    public synchronized int count() {
+        return entryBytes.size();
+    }
+
+    /** Memoria aproximada de todas las imágenes guardadas (4 bytes por píxel). */
+    public synchronized long memoryBytes() {
+        long total = 0;
+        for (long b : entryBytes.values()) total += b;
+        return total;
+    }
+
+    /** Tiempo total de carga y escalado. */
+    public synchronized long loadNanos() {
+        long total = 0;
+        for (long n : loadNanos.values()) total += n;
+        return total;
+    }
+
+    /** Una línea por entrada: clave, memoria y tiempo de carga. */
+    public synchronized void writeStats(PrintWriter out) {
+        out.printf("# assets: %d entradas, %d KB, %.1f ms%n", count(), memoryBytes() / 1024, loadNanos() / 1e6);
+        for (Map.Entry<String, Long> e : loadNanos.entrySet()) {
+            out.printf("%s %d KB %.2f ms%n", e.getKey(), entryBytes.get(e.getKey()) / 1024, e.getValue() / 1e6);
+        }
+        out.flush();
+    }
+
+    // ---------- interno ----------
+
+    private void track(String key, BufferedImage img, long nanos) {
+        loadNanos.put(key, nanos);
+        entryBytes.put(key, img == null ? 0 : (long) img.getWidth() * img.getHeight() * 4);
+    }
+
+    private String nameOf(Image source) {
+        for (Map.Entry<String, BufferedImage> e : images.entrySet()) {
+            if (e.getValue() == source) return e.getKey();
+        }
+        return "imagen";
+    }
+
+    /** Imagen vacía compatible con la pantalla (o ARGB/RGB normal sin pantalla). */
+    BufferedImage createImage(int w, int h, boolean alpha) {
+        if (gc != null) return gc.createCompatibleImage(w, h, alpha ? Transparency.TRANSLUCENT : Transparency.OPAQUE);
+        return new BufferedImage(w, h, alpha ? BufferedImage.TYPE_INT_ARGB_PRE : BufferedImage.TYPE_INT_RGB);
+    }
+
+    // reducción por mitades con bilineal (calidad parecida a SCALE_SMOOTH, mucho más rápida)
+    private BufferedImage downscale(Image source, int width, int height) {
+        Image current = source;
+        int w = source.getWidth(null);
+        int h = source.getHeight(null);
+        do {
+            w = w / 2 >= width ? w / 2 : width;
+            h = h / 2 >= height ? h / 2 : height;
+            BufferedImage step = createImage(w, h, true);
+            Graphics2D g = step.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(current, 0, 0, w, h, null);
+            g.dispose();
+            if (current != source) ((BufferedImage) current).flush();
+            current = step;
+        } while (w != width || h != height);
+        return (BufferedImage) current;
+    }
+}
@@ -0,0 +1,242 @@
+package game;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Caché de la geometría estática de una sala pintada en trozos (chunks) de
+ * {@link #CHUNK_SIZE}x{@link #CHUNK_SIZE} píxeles de mundo.
+ *
+ * Cada trozo se pinta una sola vez en una imagen compatible con la pantalla
+ * (Java2D la mantiene en memoria de vídeo) y luego solo se copia. Los trozos se
+ * guardan en un LRU con presupuesto de memoria, y los que están a punto de entrar en
+ * pantalla en la dirección en la que se mueve la cámara se pintan en un hilo aparte.
+ *
+ * Con zoom alejado se usan niveles de detalle (como mipmaps): en el nivel L cada trozo
+ * sigue teniendo CHUNK_SIZE píxeles pero cubre CHUNK_SIZE * 2^L de mundo, pintado a
+ * escala 1/2^L. Así, al alejar, se copian menos trozos y más pequeños en vez de
+ * reescalar muchos trozos a tamaño completo.
+ */
+public class ChunkCache {
+
+    /** Pinta la parte estática del mundo que cae en el área dada, trasladada a (0,0). */
+    public interface Painter {
+        void paint(Graphics2D g, int worldX, int worldY, int width, int height, IndexBuffer scratch);
+    }
+
+    public static final int CHUNK_SIZE = 1024;
+    public static final long DEFAULT_BUDGET_BYTES = 96L * 1024 * 1024;
+    /** Niveles de detalle: 1, 1/2, 1/4 y 1/8. */
+    public static final int MAX_LEVEL = 3;
+
+    // cuántos frames de movimiento adelantar al precargar
+    private static final int LOOKAHEAD_FRAMES = 20;
+
+    // un único hilo de precarga compartido por todas las salas
+    private static final ExecutorService PREFETCH = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "chunk-prefetch");
+        t.setDaemon(true);
+        t.setPriority(Thread.MIN_PRIORITY);
+        return t;
+    });
+
+    private final Painter painter;
+    private final Rectangle worldBounds;
+    private final long budgetBytes;
+    private final IndexBuffer scratch = new IndexBuffer(256);
+
+    // LRU en orden de acceso; protegido por this
+    private final LinkedHashMap<Long, BufferedImage> chunks = new LinkedHashMap<>(64, 0.75f, true);
+    private final Set<Long> pending = new HashSet<>();
+    private long usedBytes = 0;
+    private boolean disposed = false;
+
+    // para estimar hacia dónde va la cámara
+    private int lastCameraX = Integer.MIN_VALUE;
+    private int lastCameraY;
+    private int lastLevel = -1;
+
+    public ChunkCache(Painter painter, Rectangle worldBounds) {
+        this(painter, worldBounds, DEFAULT_BUDGET_BYTES);
+    }
+
+    public ChunkCache(Painter painter, Rectangle worldBounds, long budgetBytes) {
+        this.painter = painter;
+        this.worldBounds = new Rectangle(worldBounds);
+        this.budgetBytes = budgetBytes;
+    }
+
+    /**
+     * Copia en g los trozos que cubren la vista, pintando los que falten.
+     * El nivel de detalle sale de la escala que ya tenga g (el zoom del juego).
+     */
+    public void draw(Graphics2D g, int cameraX, int cameraY, int viewWidth, int viewHeight) {
+        GraphicsConfiguration gc = g.getDeviceConfiguration();
+        int level = levelFor(g.getTransform().getScaleX());
+        int span = CHUNK_SIZE << level;
+        int cx0 = chunkOf(Math.max(cameraX, worldBounds.x), level);
+        int cy0 = chunkOf(Math.max(cameraY, worldBounds.y), level);
+        int cx1 = chunkOf(Math.min(cameraX + viewWidth, worldBounds.x + worldBounds.width) - 1, level);
+        int cy1 = chunkOf(Math.min(cameraY + viewHeight, worldBounds.y + worldBounds.height) - 1, level);
+
+        for (int cy = cy0; cy <= cy1; cy++) {
+            for (int cx = cx0; cx <= cx1; cx++) {
+                BufferedImage img = get(level, cx, cy);
+                if (img == null) img = bake(gc, level, cx, cy, scratch);
+                int dx = cx * span - cameraX;
+                int dy = cy * span - cameraY;
+                if (level == 0) {
+                    g.drawImage(img, dx, dy, null);
+                } else {
+                    g.drawImage(img, dx, dy, dx + span, dy + span, 0, 0, CHUNK_SIZE, CHUNK_SIZE, null);
+                }
+            }
+        }
+
+        prefetchAhead(gc, level, cameraX, cameraY, viewWidth, viewHeight);
+    }
+
+    /**
+     * Nivel cuyo tamaño de píxel es el mayor que no baja de la escala pedida:
+     * zoom 1 o más usa el nivel 0, zoom 0.5 el 1, zoom 0.25 el 2...
+     */
+    static int levelFor(double scale) {
+        int level = 0;
+        while (level < MAX_LEVEL && scale <= 1.0 / (2 << level) + 1e-9) level++;
+        return level;
+    }
+
+    /** Libera todas las imágenes (al salir de la sala). */
+    public synchronized void dispose() {
+        disposed = true;
+        for (BufferedImage img : chunks.values()) img.flush();
+        chunks.clear();
+        usedBytes = 0;
+    }
+
+    public synchronized int cachedChunks() {
+        return chunks.size();
+    }
+
+    public synchronized long usedBytes() {
+        return usedBytes;
+    }
+
+    // ---------- interno ----------
+
+    private void prefetchAhead(GraphicsConfiguration gc, int level, int cameraX, int cameraY,
+                               int viewWidth, int viewHeight) {
+        // tras un cambio de zoom no hay movimiento que extrapolar
+        boolean moved = lastCameraX != Integer.MIN_VALUE && lastLevel == level;
+        int dx = moved ? cameraX - lastCameraX : 0;
+        int dy = moved ? cameraY - lastCameraY : 0;
+        lastCameraX = cameraX;
+        lastCameraY = cameraY;
+        lastLevel = level;
+        if (dx == 0 && dy == 0) return;
+
+        // la vista desplazada hacia donde se mueve la cámara
+        int ax = cameraX + dx * LOOKAHEAD_FRAMES;
+        int ay = cameraY + dy * LOOKAHEAD_FRAMES;
+        int cx0 = chunkOf(Math.max(ax, worldBounds.x), level);
+        int cy0 = chunkOf(Math.max(ay, worldBounds.y), level);
+        int cx1 = chunkOf(Math.min(ax + viewWidth, worldBounds.x + worldBounds.width) - 1, level);
+        int cy1 = chunkOf(Math.min(ay + viewHeight, worldBounds.y + worldBounds.height) - 1, level);
+
+        for (int cy = cy0; cy <= cy1; cy++) {
+            for (int cx = cx0; cx <= cx1; cx++) {
+                requestPrefetch(gc, level, cx, cy);
+            }
+        }
+    }
+
+    private void requestPrefetch(GraphicsConfiguration gc, int level, int cx, int cy) {
+        Long key = key(level, cx, cy);
+        synchronized (this) {
+            if (disposed || chunks.containsKey(key) || !pending.add(key)) return;
+        }
+        PREFETCH.execute(() -> {
+            try {
+                // la sala pudo dejarse mientras la tarea esperaba en la cola: no pintar nada
+                if (isDisposed()) return;
+                bake(gc, level, cx, cy, new IndexBuffer(256));
+            } finally {
+                synchronized (this) {
+                    pending.remove(key);
+                }
+            }
+        });
+    }
+
+    private synchronized boolean isDisposed() {
+        return disposed;
+    }
+
+    private synchronized BufferedImage get(int level, int cx, int cy) {
+        return chunks.get(key(level, cx, cy));
+    }
+
+    private BufferedImage bake(GraphicsConfiguration gc, int level, int cx, int cy, IndexBuffer buffer) {
+        int span = CHUNK_SIZE << level;
+        BufferedImage img = gc.createCompatibleImage(CHUNK_SIZE, CHUNK_SIZE, Transparency.OPAQUE);
+        Graphics2D g = img.createGraphics();
+        try {
+            g.setColor(Color.BLACK);
+            g.fillRect(0, 0, CHUNK_SIZE, CHUNK_SIZE);
+            if (level > 0) g.scale(1.0 / (1 << level), 1.0 / (1 << level));
+            painter.paint(g, cx * span, cy * span, span, span, buffer);
+        } finally {
+            g.dispose();
+        }
+        return store(key(level, cx, cy), img);
+    }
+
+    // si otro hilo ya lo pintó, se queda el que estaba;
+    // tras dispose no se guarda nada: se suelta su copia acelerada (aún se puede dibujar una vez)
+    private synchronized BufferedImage store(Long key, BufferedImage img) {
+        if (disposed) {
+            img.flush();
+            return img;
+        }
+        BufferedImage existing = chunks.get(key);
+        if (existing != null) {
+            img.flush();
+            return existing;
+        }
+        chunks.put(key, img);
+        usedBytes += bytesOf(img);
+        evictOverBudget(key);
+        return img;
+    }
+
+    private void evictOverBudget(Long keep) {
+        Iterator<Map.Entry<Long, BufferedImage>> it = chunks.entrySet().iterator();
+        while (usedBytes > budgetBytes && it.hasNext()) {
+            Map.Entry<Long, BufferedImage> eldest = it.next();
+            if (eldest.getKey().equals(keep)) continue;
+            usedBytes -= bytesOf(eldest.getValue());
+            eldest.getValue().flush();
+            it.remove();
+        }
+    }
+
+    private static long bytesOf(BufferedImage img) {
+        return (long) img.getWidth() * img.getHeight() * Math.max(1, img.getColorModel().getPixelSize() / 8);
+    }
+
+    private static int chunkOf(int worldCoord, int level) {
+        return Math.floorDiv(worldCoord, CHUNK_SIZE << level);
+    }
+
+    // nivel en los 8 bits altos, coordenadas de trozo en 28 bits con signo cada una
+    private static Long key(int level, int cx, int cy) {
+        return ((long) level << 56) | ((cx & 0xfffffffL) << 28) | (cy & 0xfffffffL);
+    }
+}
@@ -10,6 +10,7 @@ import java.awt.*;
 public class EnemyMelee {
 
     private int x, y;
+    private int prevX; // posición del tick anterior (interpolación)
     private int width, height;
 
     private int patrolLeft, patrolRight; // límites de patrulla
@@ -29,6 +30,7 @@ public class EnemyMelee {
                       int patrolLeft, int patrolRight, int speed) {
         this.x = x;
         this.y = y;
+        this.prevX = x;
         this.width = width;
         this.height = height;
         this.patrolLeft = patrolLeft;
@@ -39,6 +41,7 @@ public class EnemyMelee {
     /** Actualiza movimiento y colisión */
     public void update(Player player) {
         if (!alive) return;
+        prevX = x;
         // Calcular distancia al jugador
         int dx = player.getX() - x;
         int dy = player.getY() - y;
@@ -56,11 +59,8 @@ public class EnemyMelee {
         }
 
         // Revisar choque con jugador
-        Rectangle rEnemy = new Rectangle(x, y, width, height);
-        Rectangle rPlayer = new Rectangle(player.getX(), player.getY(),
-                player.getWidth(), player.getHeight());
-
-        boolean colliding = rEnemy.intersects(rPlayer);
+        boolean colliding = Aabb.overlaps(x, y, width, height,
+                player.getX(), player.getY(), player.getWidth(), player.getHeight());
 
         if (colliding && !touchingPlayer) {
             player.takeDamage(damage);
@@ -82,9 +82,18 @@ public class EnemyMelee {
 
     /** Dibuja el enemigo como un rectángulo rojo */
     public void draw(Graphics g, int cameraX) {
+        draw(g, cameraX, 1.0);
+    }
+
+    public void draw(Graphics g, int cameraX, double alpha) {
         if (!alive) return;
+        drawAt(g, getRenderX(alpha) - cameraX, y);
+    }
+
+    /** Dibuja en la posición de pantalla dada (para dibujar desde un {@link RenderSnapshot}). */
+    public void drawAt(Graphics g, int sx, int sy) {
         g.setColor(Color.RED);
-        g.fillRect(x - cameraX, y, width, height);
+        g.fillRect(sx, sy, width, height);
     }
 
     // --- Getters básicos por si los necesitas ---
@@ -92,6 +101,9 @@ public class EnemyMelee {
     public int getY() { return y; }
     public int getWidth() { return width; }
     public int getHeight() { return height; }
+    public int getRenderX(double alpha) { return (int) Math.round(prevX + (x - prevX) * alpha); }
+    public boolean isAlive() { return alive; }
+    public boolean overlaps(Rectangle r) { return Aabb.overlaps(r, x, y, width, height); }
 
     public void takeDamage(int dmg) {
         if (!alive) return;
@@ -0,0 +1,196 @@
+package game;
+
+import java.awt.*;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Perfilador por fases del bucle de juego.
+ * Cada fase acumula sus tiempos en dos histogramas preasignados: uno para toda la
+ * ejecución (se vuelca a fichero al salir) y otro por ventana de un segundo (overlay).
+ *
+ * Uso: long t = profiler.begin(); ...; profiler.end(Phase.PHYSICS, t);
+ *
+ * Además se mide el frame de dibujo completo por resolución de render
+ * (endFrame), para comparar la nativa con las resoluciones internas.
+ */
+public class FrameProfiler {
+
+    public enum Phase {
+        INPUT("input"),
+        PHYSICS("física"),
+        AI("IA"),
+        CAMERA("cámara"),
+        ROOM_LOGIC("sala"),
+        WORLD_RENDER("mundo"),
+        HUD("HUD");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private static final long WINDOW_NANOS = 1_000_000_000L;
+    private static final Phase[] PHASES = Phase.values();
+    private static final Font OVERLAY_FONT = new Font("Consolas", Font.PLAIN, 12);
+    private static final Color OVERLAY_BACKGROUND = new Color(0, 0, 0, 170);
+    private static final FrameProfiler INSTANCE = new FrameProfiler();
+
+    private final LatencyHistogram[] total = new LatencyHistogram[PHASES.length];
+    private final LatencyHistogram[] window = new LatencyHistogram[PHASES.length];
+    private final String[] overlayLines = new String[PHASES.length + 2];
+    // frame completo por resolución de render (orden de aparición)
+    private final Map<String, LatencyHistogram> frameTotals = new LinkedHashMap<>();
+    private final LatencyHistogram frameWindow = new LatencyHistogram();
+    private String frameLabel = "nativa";
+    private final Path dumpFile;
+    private long windowStart = System.nanoTime();
+    private boolean overlayVisible = false;
+    private boolean dumpOnExit;
+
+    private FrameProfiler() {
+        for (int i = 0; i < PHASES.length; i++) {
+            total[i] = new LatencyHistogram();
+            window[i] = new LatencyHistogram();
+        }
+        overlayLines[0] = "fase         p50     p99     max (us)";
+        for (int i = 0; i < PHASES.length; i++) overlayLines[i + 1] = PHASES[i].getLabel();
+        overlayLines[PHASES.length + 1] = "frame";
+
+        String out = System.getProperty("limitbreak.profile");
+        dumpFile = Paths.get(out != null ? out : "frame-profile.txt");
+        dumpOnExit = out != null;
+        Runtime.getRuntime().addShutdownHook(new Thread(this::dumpIfRequested, "profile-dump"));
+    }
+
+    /** Perfilador compartido por toda la ejecución. */
+    public static FrameProfiler get() {
+        return INSTANCE;
+    }
+
+    public long begin() {
+        return System.nanoTime();
+    }
+
+    public void end(Phase phase, long start) {
+        long elapsed = System.nanoTime() - start;
+        synchronized (this) {
+            total[phase.ordinal()].record(elapsed);
+            window[phase.ordinal()].record(elapsed);
+        }
+    }
+
+    /** Tiempo del frame de dibujo completo, a la resolución de render indicada. */
+    public void endFrame(String resolution, long start) {
+        long elapsed = System.nanoTime() - start;
+        synchronized (this) {
+            if (!resolution.equals(frameLabel)) {
+                frameLabel = resolution;
+                frameWindow.reset();
+            }
+            frameTotals.computeIfAbsent(resolution, r -> new LatencyHistogram()).record(elapsed);
+            frameWindow.record(elapsed);
+        }
+    }
+
+    public boolean isOverlayVisible() {
+        return overlayVisible;
+    }
+
+    /** F3: muestra/oculta el overlay. Usarlo una vez activa también el volcado al salir. */
+    public void toggleOverlay() {
+        overlayVisible = !overlayVisible;
+        dumpOnExit = true;
+    }
+
+    public void drawOverlay(Graphics2D g, int x, int y) {
+        if (!overlayVisible) return;
+        rollWindowIfNeeded();
+
+        g.setFont(OVERLAY_FONT);
+        int lineHeight = g.getFontMetrics().getHeight();
+        g.setColor(OVERLAY_BACKGROUND);
+        g.fillRect(x - 6, y - lineHeight, 300, lineHeight * overlayLines.length + 8);
+        g.setColor(Color.GREEN);
+        for (int i = 0; i < overlayLines.length; i++) {
+            g.drawString(overlayLines[i], x, y + i * lineHeight);
+        }
+    }
+
+    // una vez por segundo: recalcular el texto del overlay y vaciar la ventana
+    private synchronized void rollWindowIfNeeded() {
+        long now = System.nanoTime();
+        if (now - windowStart < WINDOW_NANOS) return;
+        windowStart = now;
+        for (int i = 0; i < PHASES.length; i++) {
+            LatencyHistogram h = window[i];
+            overlayLines[i + 1] = String.format("%-10s %7.1f %7.1f %7.1f",
+                    PHASES[i].getLabel(),
+                    h.valueAtPercentile(50) / 1000.0,
+                    h.valueAtPercentile(99) / 1000.0,
+                    h.getMax() / 1000.0);
+            h.reset();
+        }
+        overlayLines[PHASES.length + 1] = String.format("%-10s %7.1f %7.1f %7.1f",
+                "frame " + frameLabel,
+                frameWindow.valueAtPercentile(50) / 1000.0,
+                frameWindow.valueAtPercentile(99) / 1000.0,
+                frameWindow.getMax() / 1000.0);
+        frameWindow.reset();
+    }
+
+    private void dumpIfRequested() {
+        if (!dumpOnExit) return;
+        try {
+            dump(dumpFile);
+        } catch (IOException e) {
+            System.err.println("No se pudo guardar el perfil: " + e.getMessage());
+        }
+    }
+
+    /** Escribe resumen y cubetas de cada fase para comparar ejecuciones. */
+    public synchronized void dump(Path file) throws IOException {
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8))) {
+            out.println("# LimitBreak frame profile " + LocalDateTime.now());
+            out.println("# phase count mean_ns p50_ns p90_ns p99_ns p999_ns max_ns");
+            for (int i = 0; i < PHASES.length; i++) {
+                LatencyHistogram h = total[i];
+                out.printf("%s %d %.0f %d %d %d %d %d%n", PHASES[i].name(), h.getCount(), h.getMean(),
+                        h.valueAtPercentile(50), h.valueAtPercentile(90), h.valueAtPercentile(99),
+                        h.valueAtPercentile(99.9), h.getMax());
+            }
+            for (Map.Entry<String, LatencyHistogram> e : frameTotals.entrySet()) {
+                LatencyHistogram h = e.getValue();
+                out.printf("FRAME@%s %d %.0f %d %d %d %d %d%n", e.getKey(), h.getCount(), h.getMean(),
+                        h.valueAtPercentile(50), h.valueAtPercentile(90), h.valueAtPercentile(99),
+                        h.valueAtPercentile(99.9), h.getMax());
+            }
+            for (int i = 0; i < PHASES.length; i++) {
+                out.println();
+                out.println("[" + PHASES[i].name() + "]");
+                total[i].writeBuckets(out);
+            }
+            for (Map.Entry<String, LatencyHistogram> e : frameTotals.entrySet()) {
+                out.println();
+                out.println("[FRAME@" + e.getKey() + "]");
+                e.getValue().writeBuckets(out);
+            }
+            out.println();
+            out.println("[ASSETS]");
+            Assets.get().writeStats(out);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package game;
+
+/**
+ * Todo lo que se ve en un frame (cámara, posiciones, vida, menús...), guardado
+ * valor a valor para compararlo con el último frame dibujado. Si no cambió
+ * ninguno, no hace falta volver a dibujarlo. Se compara campo a campo, no por
+ * hash: dos frames distintos nunca se dan por iguales.
+ * Se reutiliza sin asignar memoria: reset(), add(...) por cada valor, changed().
+ */
+public final class FrameSignature {
+
+    private static final int MAX_VALUES = 32;
+
+    private final long[] values = new long[MAX_VALUES];
+    private final Object[] refs = new Object[MAX_VALUES];
+    private int count;
+    private int lastCount;
+    private boolean changed;
+
+    /** Empieza un frame nuevo; los valores que se añadan se comparan con los del anterior. */
+    public FrameSignature reset() {
+        lastCount = count;
+        count = 0;
+        changed = false;
+        return this;
+    }
+
+    public FrameSignature add(long v) {
+        int i = slot();
+        if (i >= lastCount || values[i] != v || refs[i] != null) changed = true;
+        values[i] = v;
+        refs[i] = null;
+        return this;
+    }
+
+    public FrameSignature add(boolean v) {
+        return add(v ? 1 : 0);
+    }
+
+    public FrameSignature add(double v) {
+        return add(Double.doubleToLongBits(v));
+    }
+
+    /** Por referencia: otra sala (o etiqueta) aunque sea igual cuenta como cambio. */
+    public FrameSignature add(Object identity) {
+        int i = slot();
+        if (i >= lastCount || refs[i] != identity || values[i] != 0) changed = true;
+        values[i] = 0;
+        refs[i] = identity;
+        return this;
+    }
+
+    /** true si algún valor, o cuántos hay, difiere del frame anterior. */
+    public boolean changed() {
+        return changed || count != lastCount;
+    }
+
+    private int slot() {
+        if (count == MAX_VALUES) throw new IllegalStateException("más de " + MAX_VALUES + " valores por frame");
+        return count++;
+    }
+}
@@ -5,81 +5,124 @@ import java.awt.*;
 import java.awt.event.*;
 import java.util.ArrayList;
 import java.util.List;
-import javax.imageio.ImageIO;
 
-public class Game extends JPanel implements ActionListener, KeyListener, MouseWheelListener {
+public class Game extends JPanel implements Screen, GameLoop.Listener, KeyListener, MouseWheelListener {
 
-    // entradas
-    private boolean leftPressed  = false;
-    private boolean rightPressed = false;
-    private boolean attacking    = false;
-    private final Timer timer;
+    // teclas: el EDT las encola y el hilo de simulación las aplica al empezar cada tick
+    private final InputQueue keys = new InputQueue(256);
+    private final InputFrame input = new InputFrame();
+    private final GameLoop loop;
+
+    // simulación (sin Swing); solo la toca el hilo de simulación
+    private final World world;
     private final Player player;
 
-    // cámara mundo
+    // cámara mundo (hilo de simulación)
     private int cameraX = 0;
     private int cameraY = 0;
+    private int prevCameraX = 0;
+    private int prevCameraY = 0;
     private final float cameraLerp = 0.18f;
-    private boolean cameraInitialized = false;
 
-    // launcher (pausa)
-    private final StartMenuLauncher launcher;
-    private double zoomFactor = 1.0;
+    // zona del mundo que cabe en pantalla con el zoom actual; la calcula el EDT
+    private volatile int visibleWorldWidth;
+    private volatile int visibleWorldHeight;
+    private volatile boolean recenterCamera = true;
 
-    // enemigo de prueba
-    private EnemyMelee enemy;
+    // lo que se dibuja: la simulación publica una instantánea por tick y el EDT toma la última
+    private final TripleBuffer<RenderSnapshot> snapshots = new TripleBuffer<>(RenderSnapshot::new);
+    private RenderSnapshot view;
+    // última sala abandonada que ya liberó el EDT
+    private Room releasedRoom;
+
+    // navegación (pausa)
+    private final ScreenManager screens;
+    private double zoomFactor = 1.0;
+    private static final double MIN_ZOOM = 0.25;
+    private static final double MAX_ZOOM = 8.0;
 
-    // inventario y menús
-    private final Inventory inventory;
+    // menú de inventario
     private final InventoryMenu inventoryMenu;
 
-    // sala actual
-    private Room currentRoom;
+    // HUD: capa cacheada que solo se repinta cuando cambia algún widget
+    private final HudLayer hud = new HudLayer();
+
+    // fracción entre ticks para interpolar el dibujo
+    private double renderAlpha = 0.0;
+
+    // dibujo activo (pantalla completa); null = pintado pasivo de Swing
+    private final ActiveRenderer activeRenderer;
+    private final ActiveRenderer.Scene activeScene = this::drawFrame;
+
+    // resolución interna (null = nativa); F4 la cambia en marcha
+    private RenderScaler scaler;
+    private String renderLabel;
+    private double upscale = 1;
+    private final ActiveRenderer.Scene worldScene = (g, w, h) -> drawWorld(g, w, h, zoomFactor / upscale);
 
-    // HUD
-    private Image heartImage;
-    private int regenCounter = 0;
-    private final int regenDelay = 300;
+    // tiempos por fase (F3 muestra el overlay)
+    private final FrameProfiler profiler = FrameProfiler.get();
+
+    // solo se dibuja si cambió algo visible desde el último frame dibujado
+    private final FrameSignature signature = new FrameSignature();
+    private boolean dirty = true;
+
+    // ventana: sin foco o minimizada se baja el ritmo (y minimizada no se dibuja)
+    private Window window;
+    private boolean windowFocused = true;
+    private boolean windowIconified = false;
+    private final WindowAdapter windowWatcher = new WindowAdapter() {
+        @Override public void windowGainedFocus(WindowEvent e) { windowFocused = true; updateIdle(); }
+        @Override public void windowLostFocus(WindowEvent e) { windowFocused = false; updateIdle(); }
+        @Override public void windowIconified(WindowEvent e) { windowIconified = true; updateIdle(); }
+        @Override public void windowDeiconified(WindowEvent e) { windowIconified = false; updateIdle(); }
+    };
 
     // ===== Constructor =====
-    public Game(StartMenuLauncher launcher, Dimension resolution, boolean fullscreen, int cameraOffsetX, int cameraOffsetY) {
-        this.launcher = launcher;
+    public Game(ScreenManager screens, Dimension resolution, boolean fullscreen, int cameraOffsetX, int cameraOffsetY) {
+        this(screens, resolution, fullscreen, null, cameraOffsetX, cameraOffsetY);
+    }
+
+    public Game(ScreenManager screens, Dimension resolution, boolean fullscreen, Dimension internalResolution,
+                int cameraOffsetX, int cameraOffsetY) {
+        this.screens = screens;
+        setInternalResolution(internalResolution);
         setPreferredSize(resolution);
+        setBackground(Color.BLACK);
         setFocusable(true);
         setRequestFocusEnabled(true);
         addKeyListener(this);
         requestFocusInWindow();
         addMouseWheelListener(this);
 
-        // sala inicial
-        currentRoom = new RoomMain();
-        // crear player: colocarlo sobre el piso de RoomMain (centro)
-        int startX = 200; // valor razonable dentro de RoomMain
-        int startY = 800; // encima del piso de RoomMain
-        player = new Player(startX, startY, 40, 40, 8);
+        world = new World();
+        player = world.getPlayer();
 
-        // enemigo de prueba
-        enemy = new EnemyMelee(400, 820, 40, 40, 200, 500, 2);
-
-        // inventario y menú
-        inventory = new Inventory();
+        // menú de inventario
         List<Passive> passives = new ArrayList<>();
         passives.add(new Passive("Vivir en bucles", "Alma",
                 "“Tu alma recuerda lo que tu mente \nolvidó.\nEstás atrapado en un ciclo que no \npuedes romper.”",
                 "Activo", "+1 regen/s"));
-        inventoryMenu = new InventoryMenu(inventory, passives);
-
-        // load heart quietly
-        try {
-            Image raw = ImageIO.read(getClass().getResourceAsStream("/items/heart.png"));
-            heartImage = raw.getScaledInstance(32, 32, Image.SCALE_SMOOTH);
-        } catch (Exception e) {
-            heartImage = null;
+        inventoryMenu = new InventoryMenu(world.getInventory(), passives);
+
+        // barra de corazones (si falta el recurso, huecos grises)
+        hud.add(new HeartBarWidget(() -> view.health, () -> view.maxHealth,
+                SpriteAtlas.get().sprite("/items/heart.png", 32, 32), 20, 20));
+
+        // en pantalla completa se dibuja activamente, vaciando el pipeline tras cada
+        // frame salvo con -Dlimitbreak.flush=false (no es vsync: no espera al retrazado)
+        if (fullscreen) {
+            activeRenderer = new ActiveRenderer(this, !"false".equals(System.getProperty("limitbreak.flush")));
+        } else {
+            activeRenderer = null;
         }
 
-        // iniciar timer
-        timer = new Timer(16, this);
-        timer.start();
+        // primera instantánea, para poder dibujar antes del primer tick
+        publish(System.nanoTime());
+        view = snapshots.acquire();
+
+        // bucle de paso fijo (arranca en onShow)
+        loop = new GameLoop(this);
 
         // listener para recuperar foco
         addMouseListener(new MouseAdapter() {
@@ -88,171 +131,366 @@ public class Game extends JPanel implements ActionListener, KeyListener, MouseWh
                 requestFocusInWindow();
             }
         });
+
+        // un cambio de tamaño obliga a redibujar aunque nada más cambie
+        addComponentListener(new ComponentAdapter() {
+            @Override
+            public void componentResized(ComponentEvent e) {
+                updateVisibleWorld();
+                dirty = true;
+            }
+        });
+    }
+
+    public World getWorld() {
+        return world;
+    }
+
+    // ===== Ciclo de vida (ScreenManager) =====
+    @Override
+    public void onShow() {
+        keys.clear();
+        input.clear();
+        dirty = true;
+        loop.start();
+    }
+
+    // pausa: el bucle se para y las teclas mantenidas se olvidan
+    @Override
+    public void onHide() {
+        loop.stop();
+        keys.clear();
+        input.clear();
+    }
+
+    // la partida no vuelve: se suelta todo lo que retiene memoria fuera del heap de objetos
+    @Override
+    public void dispose() {
+        onHide();
+        if (activeRenderer != null) activeRenderer.dispose();
+        if (scaler != null) scaler.dispose();
+        hud.dispose();
+        world.dispose();
+    }
+
+    /** Resolución a la que se dibuja el mundo antes de ampliarlo; null = la de la ventana. */
+    public void setInternalResolution(Dimension size) {
+        if (scaler != null) scaler.dispose();
+        scaler = size == null ? null : new RenderScaler(size);
+        renderLabel = RenderScaler.label(size);
+        updateVisibleWorld();
+        dirty = true;
+    }
+
+    // ancho/alto en píxeles de pantalla que ocupa el mundo (sin las bandas de la resolución interna)
+    private int screenWidth() {
+        if (scaler == null) return getWidth();
+        return scaler.outputWidth(getWidth(), getHeight());
+    }
+
+    private int screenHeight() {
+        if (scaler == null) return getHeight();
+        return scaler.outputHeight(getWidth(), getHeight());
+    }
+
+    // EDT: la simulación solo ve el tamaño ya traducido a unidades de mundo
+    private void updateVisibleWorld() {
+        visibleWorldWidth  = (int)(screenWidth()  / zoomFactor);
+        visibleWorldHeight = (int)(screenHeight() / zoomFactor);
     }
 
     // ===== Método para centrar cámara en el jugador =====
     private void centerCameraOnPlayer() {
-        int visibleWidth  = (int)(getWidth()  / zoomFactor);
-        int visibleHeight = (int)(getHeight() / zoomFactor);
+        int visibleWidth  = visibleWorldWidth;
+        int visibleHeight = visibleWorldHeight;
 
         cameraX = player.getX() + player.getWidth() / 2 - visibleWidth / 2;
         cameraY = player.getY() + player.getHeight() / 2 - visibleHeight / 2;
 
-        if (currentRoom != null) {
-            cameraX = Math.max(0, Math.min(cameraX, currentRoom.getWidth()  - visibleWidth));
-            cameraY = Math.max(0, Math.min(cameraY, currentRoom.getHeight() - visibleHeight));
-        }
+        Room room = world.getCurrentRoom();
+        cameraX = Math.max(0, Math.min(cameraX, room.getWidth()  - visibleWidth));
+        cameraY = Math.max(0, Math.min(cameraY, room.getHeight() - visibleHeight));
+        prevCameraX = cameraX;
+        prevCameraY = cameraY;
     }
 
     @Override
     public void addNotify() {
         super.addNotify();
         requestFocus();
-        centerCameraOnPlayer();   // inicializar cámara al inicio
-        cameraInitialized = true;
+        updateVisibleWorld();
+        recenterCamera = true;    // la simulación centra la cámara en su siguiente tick
+        dirty = true;
+
+        window = SwingUtilities.getWindowAncestor(this);
+        if (window != null) {
+            window.addWindowListener(windowWatcher);
+            window.addWindowFocusListener(windowWatcher);
+            windowFocused = window.isFocused();
+            windowIconified = window instanceof Frame f && (f.getExtendedState() & Frame.ICONIFIED) != 0;
+            updateIdle();
+        }
+    }
+
+    @Override
+    public void removeNotify() {
+        if (window != null) {
+            window.removeWindowListener(windowWatcher);
+            window.removeWindowFocusListener(windowWatcher);
+            window = null;
+        }
+        super.removeNotify();
+    }
+
+    private void updateIdle() {
+        loop.setIdle(!windowFocused || windowIconified);
+        dirty = true;
     }
 
     // ===== Render =====
     @Override
-    protected void paintComponent(Graphics g) {
-        super.paintComponent(g);
+    public void render(long frameNanos) {
+        acquireView(frameNanos);
+        // minimizada no se ve nada; sin cambios visibles, el último frame sigue valiendo
+        if (windowIconified || !frameChanged(renderAlpha)) return;
+        // modo activo: se dibuja ya; si aún no se puede, se cae a repaint()
+        if (activeRenderer != null && activeRenderer.render(activeScene)) {
+            releaseRetiredRoom();
+            return;
+        }
+        repaint();
+    }
 
-        if (!cameraInitialized && player != null) {
-            centerCameraOnPlayer();
-            cameraInitialized = true;
+    // la sala anterior se libera aquí y no en la simulación: hasta que se dibuja la nueva,
+    // el EDT puede seguir pintando la vieja desde su caché de trozos
+    private void releaseRetiredRoom() {
+        Room retired = view.retiredRoom;
+        if (retired == null || retired == releasedRoom || view.room == retired) return;
+        retired.dispose();
+        releasedRoom = retired;
+    }
+
+    // compara lo que se vería ahora, valor a valor, con el último frame dibujado
+    private boolean frameChanged(double alpha) {
+        RenderSnapshot v = view;
+        signature.reset()
+                .add(getWidth()).add(getHeight()).add(zoomFactor).add(renderLabel)
+                .add(RenderSnapshot.lerp(v.prevCameraX, v.cameraX, alpha))
+                .add(RenderSnapshot.lerp(v.prevCameraY, v.cameraY, alpha))
+                .add(v.room)
+                .add(RenderSnapshot.lerp(v.prevPlayerX, v.playerX, alpha))
+                .add(RenderSnapshot.lerp(v.prevPlayerY, v.playerY, alpha))
+                .add(v.playerFrame).add(v.playerAttacking)
+                .add(v.health).add(v.maxHealth)
+                .add(v.inventoryVisible);
+        if (v.enemy != null) signature.add(v.enemyAlive).add(RenderSnapshot.lerp(v.prevEnemyX, v.enemyX, alpha)).add(v.enemyY);
+        if (v.inventoryVisible) {
+            signature.add(v.inventoryTab).add(v.inventoryOnTabs).add(v.inventorySelected)
+                    .add(v.inventoryScroll).add(v.inventorySize).add(v.passiveSelected)
+                    .add(inventoryMenu.blinkPhase());
         }
 
+        // con el overlay de F3 se dibuja siempre: sus cifras cambian cada segundo
+        if (!dirty && !signature.changed() && !profiler.isOverlayVisible()) return false;
+        dirty = false;
+        return true;
+    }
+
+    // la última instantánea publicada y cuánto interpolar hacia ella
+    private void acquireView(long frameNanos) {
+        view = snapshots.acquire();
+        renderAlpha = GameLoop.alphaAt(view.tickNanos, frameNanos);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        acquireView(System.nanoTime());
         Graphics2D g2d = (Graphics2D) g.create();
-        g2d.scale(zoomFactor, zoomFactor);
+        drawFrame(g2d, getWidth(), getHeight());
+        g2d.dispose();
+        releaseRetiredRoom();
+    }
 
-        // fondo negro
-        g2d.setColor(Color.BLACK);
-        g2d.fillRect(0, 0, getWidth() * 2, getHeight() * 2);
+    // dibuja el frame completo; lo usan tanto paintComponent como el modo activo
+    private void drawFrame(Graphics2D g2d, int viewWidth, int viewHeight) {
+        long frameStart = profiler.begin();
+
+        // limpiar (en modo activo no lo hace super.paintComponent)
+        g2d.setColor(getBackground());
+        g2d.fillRect(0, 0, viewWidth, viewHeight);
 
         // inventario
-        if (inventoryMenu.isVisible()) {
-            inventoryMenu.draw(g2d);
-            g2d.dispose();
+        if (view.inventoryVisible) {
+            g2d.scale(zoomFactor, zoomFactor);
+            inventoryMenu.draw(g2d, view);
             return;
         }
 
+        // mundo: directo a la salida, o a la resolución interna y ampliado
+        if (scaler == null) {
+            drawWorld(g2d, viewWidth, viewHeight, zoomFactor);
+        } else {
+            upscale = scaler.scaleFor(viewWidth, viewHeight);
+            scaler.render(g2d, viewWidth, viewHeight, worldScene);
+        }
+
+        // HUD (sin zoom, siempre a resolución de salida)
+        long t = profiler.begin();
+        hud.draw(g2d, viewWidth, viewHeight);
+        profiler.drawOverlay(g2d, 20, viewHeight - 140);
+        profiler.end(FrameProfiler.Phase.HUD, t);
+        profiler.endFrame(renderLabel, frameStart);
+    }
+
+    // sala y entidades; scale = píxeles de destino por unidad de mundo
+    private void drawWorld(Graphics2D g2d, int targetWidth, int targetHeight, double scale) {
+        // fondo negro
+        g2d.setColor(Color.BLACK);
+        g2d.fillRect(0, 0, targetWidth, targetHeight);
+
+        g2d.scale(scale, scale);
+
+        // cámara interpolada entre el tick anterior y el actual
+        RenderSnapshot v = view;
+        double alpha = renderAlpha;
+        int camX = RenderSnapshot.lerp(v.prevCameraX, v.cameraX, alpha);
+        int camY = RenderSnapshot.lerp(v.prevCameraY, v.cameraY, alpha);
+
         // sala
-        if (currentRoom != null) currentRoom.draw(g2d, cameraX, cameraY);
-
-        // enemigo / jugador
-        if (enemy != null) enemy.draw(g2d, cameraX);
-        player.draw(g2d, cameraX, cameraY);
-
-        // HUD (sin zoom)
-        g2d.scale(1/zoomFactor, 1/zoomFactor);
-        int maxHearts = player.getMaxHealth();
-        int currentHearts = player.getHealth();
-        for (int i = 0; i < maxHearts; i++) {
-            int hx = 20 + i * 40;
-            int hy = 20;
-            if (heartImage != null && i < currentHearts) {
-                g2d.drawImage(heartImage, hx, hy, 32, 32, null);
-            } else {
-                g2d.setColor(new Color(60, 60, 60));
-                g2d.fillRect(hx, hy, 32, 32);
-            }
+        long t = profiler.begin();
+        // zona del mundo visible con el zoom actual
+        int visibleWidth  = (int) Math.ceil(targetWidth  / scale);
+        int visibleHeight = (int) Math.ceil(targetHeight / scale);
+        v.room.draw(g2d, camX, camY, visibleWidth, visibleHeight);
+
+        // enemigo / jugador (el enemigo, como siempre, sin desplazamiento vertical de cámara)
+        if (v.enemy != null && v.enemyAlive) {
+            v.enemy.drawAt(g2d, RenderSnapshot.lerp(v.prevEnemyX, v.enemyX, alpha) - camX, v.enemyY);
         }
+        player.drawAt(g2d, RenderSnapshot.lerp(v.prevPlayerX, v.playerX, alpha) - camX,
+                RenderSnapshot.lerp(v.prevPlayerY, v.playerY, alpha) - camY, v.playerFrame, v.playerAttacking);
+        profiler.end(FrameProfiler.Phase.WORLD_RENDER, t);
 
-        g2d.dispose();
+        g2d.scale(1 / scale, 1 / scale);
     }
 
-    // ===== Game loop =====
+    // ===== Game loop (un tick fijo, en el hilo de simulación) =====
     @Override
-    public void actionPerformed(ActionEvent e) {
-        if (inventoryMenu.isVisible()) {
-            repaint();
-            return;
+    public void tick(long tickNanos) {
+        prevCameraX = cameraX;
+        prevCameraY = cameraY;
+        for (int e = keys.poll(); e != InputQueue.EMPTY; e = keys.poll()) {
+            applyKey(InputQueue.keyCode(e), InputQueue.pressed(e));
+        }
+        if (recenterCamera) {
+            recenterCamera = false;
+            centerCameraOnPlayer();
         }
+        if (!inventoryMenu.isVisible()) step();
+        publish(tickNanos);
+    }
 
-        List<Rectangle> solids = currentRoom != null ? currentRoom.getPlatforms() : new ArrayList<>();
-        player.update(solids);
+    private void step() {
+        world.step(input);
+        input.clearEdges();
+
+        if (world.consumeRoomChanged()) {
+            centerCameraOnPlayer();   // reset cámara
+            return;
+        }
 
         // cámara suave
-        int targetX = player.getX() - (int)((getWidth() / zoomFactor) / 2) + player.getWidth() / 2;
-        int targetY = player.getY() - (int)((getHeight() / zoomFactor) / 2) + player.getHeight() / 2;
+        long t = profiler.begin();
+        int visibleWidth  = visibleWorldWidth;
+        int visibleHeight = visibleWorldHeight;
+        int targetX = player.getX() - visibleWidth / 2 + player.getWidth() / 2;
+        int targetY = player.getY() - visibleHeight / 2 + player.getHeight() / 2;
 
         cameraX += Math.round((targetX - cameraX) * cameraLerp);
         cameraY += Math.round((targetY - cameraY) * cameraLerp);
 
-        int visibleWidth  = (int)(getWidth()  / zoomFactor);
-        int visibleHeight = (int)(getHeight() / zoomFactor);
+        Room room = world.getCurrentRoom();
+        cameraX = Math.max(0, Math.min(cameraX, room.getWidth()  - visibleWidth));
+        cameraY = Math.max(0, Math.min(cameraY, room.getHeight() - visibleHeight));
+        profiler.end(FrameProfiler.Phase.CAMERA, t);
+    }
 
-        if (currentRoom != null) {
-            cameraX = Math.max(0, Math.min(cameraX, currentRoom.getWidth()  - visibleWidth));
-            cameraY = Math.max(0, Math.min(cameraY, currentRoom.getHeight() - visibleHeight));
+    // copia lo que se dibuja a la instantánea libre y la publica
+    private void publish(long tickNanos) {
+        RenderSnapshot s = snapshots.back();
+        s.tickNanos = tickNanos;
+        s.room = world.getCurrentRoom();
+        s.retiredRoom = world.getRetiredRoom();
+        s.prevCameraX = prevCameraX;
+        s.prevCameraY = prevCameraY;
+        s.cameraX = cameraX;
+        s.cameraY = cameraY;
+        s.prevPlayerX = player.getRenderX(0);
+        s.prevPlayerY = player.getRenderY(0);
+        s.playerX = player.getX();
+        s.playerY = player.getY();
+        s.playerFrame = player.getAnimationFrame();
+        s.playerAttacking = player.isAttacking();
+        s.health = player.getHealth();
+        s.maxHealth = player.getMaxHealth();
+        EnemyMelee enemy = world.getEnemy();
+        s.enemy = enemy;
+        if (enemy != null) {
+            s.enemyAlive = enemy.isAlive();
+            s.prevEnemyX = enemy.getRenderX(0);
+            s.enemyX = enemy.getX();
+            s.enemyY = enemy.getY();
         }
+        inventoryMenu.copyTo(s);
+        snapshots.publish();
+    }
 
-        if (enemy != null) enemy.update(player);
-
-        Rectangle atk = player.getAttackBox();
-        if (atk != null && enemy != null) {
-            Rectangle enemyBox = new Rectangle(enemy.getX(), enemy.getY(), enemy.getWidth(), enemy.getHeight());
-            if (atk.intersects(enemyBox)) enemy.takeDamage(1);
+    // una tecla del EDT, ya en el hilo de simulación
+    private void applyKey(int key, boolean pressed) {
+        if (inventoryMenu.isVisible()) {
+            if (pressed) inventoryMenu.handleInput(key, player);
+            return;
         }
-
-        if (player.getHealth() < player.getMaxHealth()) {
-            regenCounter++;
-            if (regenCounter >= regenDelay) {
-                player.addHealth(1);
-                regenCounter = 0;
+        if (pressed) {
+            switch (key) {
+                case KeyEvent.VK_LEFT -> input.left = true;
+                case KeyEvent.VK_RIGHT -> input.right = true;
+                case KeyEvent.VK_SPACE, KeyEvent.VK_W -> input.jump = true;
+                case KeyEvent.VK_A -> input.attackStart = true;
+                case KeyEvent.VK_I -> inventoryMenu.toggle();
+            }
+        } else {
+            switch (key) {
+                case KeyEvent.VK_LEFT -> input.left = false;
+                case KeyEvent.VK_RIGHT -> input.right = false;
+                case KeyEvent.VK_A -> input.attackStop = true;
             }
         }
-
-        // cambio de sala
-        if (currentRoom.getExitDoor() != null && player.getBounds().intersects(currentRoom.getExitDoor())) {
-            currentRoom = new RoomDungeon();
-            player.setPosition(100, 100);
-            centerCameraOnPlayer();   // reset cámara
-        }
-
-        repaint();
     }
 
     // ===== Controles =====
     @Override
     public void keyPressed(KeyEvent e) {
         int key = e.getKeyCode();
-        if (key == KeyEvent.VK_ESCAPE) launcher.showPause(this);
+        dirty = true; // menús, zoom, overlay... cualquier tecla puede cambiar lo que se ve
+        if (key == KeyEvent.VK_ESCAPE) screens.showPause(this);
+        if (key == KeyEvent.VK_F3) profiler.toggleOverlay();
+        if (key == KeyEvent.VK_F4) setInternalResolution(RenderScaler.next(scaler == null ? null : scaler.getSize()));
 
-        if (inventoryMenu.isVisible()) {
-            inventoryMenu.handleInput(key, player);
-            return;
-        }
-
-        switch (key) {
-            case KeyEvent.VK_LEFT -> player.pressLeft(true);
-            case KeyEvent.VK_RIGHT -> player.pressRight(true);
-            case KeyEvent.VK_SPACE, KeyEvent.VK_W -> player.pressJump();
-            case KeyEvent.VK_A -> {
-                attacking = true;
-                player.startAttack();
-            }
-            case KeyEvent.VK_I -> inventoryMenu.toggle();
-        }
+        // el resto de teclas las aplica la simulación (movimiento, ataque, inventario)
+        keys.offer(key, true);
+        if (view.inventoryVisible) return;
 
         if (key == KeyEvent.VK_PLUS || key == KeyEvent.VK_EQUALS) zoomFactor *= 1.1;
         if (key == KeyEvent.VK_MINUS) zoomFactor /= 1.1;
-        zoomFactor = Math.max(0.25, Math.min(zoomFactor, 8.0));
+        zoomFactor = Math.max(MIN_ZOOM, Math.min(zoomFactor, MAX_ZOOM));
+        updateVisibleWorld();
         repaint();
     }
     @Override
     public void keyReleased(KeyEvent e) {
-        int key = e.getKeyCode();
-        if (inventoryMenu.isVisible()) return;
-
-        switch (key) {
-            case KeyEvent.VK_LEFT -> player.pressLeft(false);
-            case KeyEvent.VK_RIGHT -> player.pressRight(false);
-            case KeyEvent.VK_A -> {
-                attacking = false;
-                player.stopAttack();
-            }
-        }
+        keys.offer(e.getKeyCode(), false);
     }
 
     @Override public void keyTyped(KeyEvent e) {}
@@ -263,7 +501,9 @@ public class Game extends JPanel implements ActionListener, KeyListener, MouseWh
         if (notches < 0) zoomFactor *= 1.1;  // acercar
         else zoomFactor /= 1.1;             // alejar
 
-        zoomFactor = Math.max(0.25, Math.min(zoomFactor, 8.0));
+        zoomFactor = Math.max(MIN_ZOOM, Math.min(zoomFactor, MAX_ZOOM));
+        updateVisibleWorld();
+        dirty = true;
         repaint();
     }
 }
@@ -0,0 +1,39 @@
+package game;
+
+/**
+ * Reloj de juego: cuenta ticks de simulación de duración fija.
+ * Los temporizadores de gameplay (coyote time, buffer de salto, ataque, animación)
+ * se miden en ticks, así la simulación se comporta igual a 1x que a 100x.
+ */
+public class GameClock {
+
+    public static final int TICKS_PER_SECOND = GameLoop.TICKS_PER_SECOND;
+    public static final double DT_SECONDS = 1.0 / TICKS_PER_SECOND;
+
+    /** Marca "nunca": lejos en el pasado, sin desbordar al restar. */
+    public static final long NEVER = Long.MIN_VALUE / 2;
+
+    private long ticks = 0;
+
+    public void advance() {
+        ticks++;
+    }
+
+    public long ticks() {
+        return ticks;
+    }
+
+    public double seconds() {
+        return ticks * DT_SECONDS;
+    }
+
+    /** Ticks transcurridos desde la marca dada. */
+    public long since(long tickStamp) {
+        return ticks - tickStamp;
+    }
+
+    /** Convierte una duración en milisegundos al número de ticks más cercano. */
+    public static long ticksFor(long millis) {
+        return Math.round(millis * TICKS_PER_SECOND / 1000.0);
+    }
+}
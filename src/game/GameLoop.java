@@ -0,0 +1,175 @@
+package game;
+
+import javax.swing.*;
+import java.awt.*;
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Bucle de juego de paso fijo, en dos hilos.
+ * La simulación avanza en su propio hilo, siempre en ticks de {@link #TICK_NANOS};
+ * si se retrasa recupera como mucho unos pocos ticks seguidos para no entrar en
+ * una espiral de muerte. Aparte, un hilo marca el ritmo de dibujo y en cada frame
+ * pide al EDT que dibuje, interpolando a partir de la hora del último tick
+ * ({@link #alphaAt}). Un frame lento ya no frena la simulación, ni al revés.
+ *
+ * En modo reposo (ventana sin foco o minimizada) el dibujo baja a
+ * {@link #IDLE_FRAMES_PER_SECOND}; la simulación sigue a la misma velocidad.
+ */
+public class GameLoop implements Runnable {
+
+    /** Quien recibe los ticks y los frames. */
+    public interface Listener {
+        /** Un paso fijo de simulación (en el hilo de simulación); tickNanos es la hora que le toca. */
+        void tick(long tickNanos);
+
+        /** Dibujar (en el EDT); frameNanos es System.nanoTime() al empezar el frame. */
+        void render(long frameNanos);
+    }
+
+    public static final int TICKS_PER_SECOND = 60;
+    public static final long TICK_NANOS = 1_000_000_000L / TICKS_PER_SECOND;
+
+    // como mucho 5 ticks seguidos para recuperar; lo demás se descarta
+    private static final int MAX_CATCH_UP_TICKS = 5;
+    private static final int FALLBACK_REFRESH_RATE = 60;
+
+    /** Frames por segundo en reposo. */
+    public static final int IDLE_FRAMES_PER_SECOND = 15;
+    private static final long IDLE_FRAME_NANOS = 1_000_000_000L / IDLE_FRAMES_PER_SECOND;
+
+    private final Listener listener;
+    private final Runnable frameTask = this::frame;
+    private final long frameNanos;
+
+    private volatile boolean running = false;
+    private volatile boolean idle = false;
+    // hilos vigentes: uno viejo que aún no vio el stop() termina aunque se haya vuelto a arrancar
+    private volatile Thread thread;
+    private volatile Thread simThread;
+
+    public GameLoop(Listener listener) {
+        this.listener = listener;
+        this.frameNanos = 1_000_000_000L / displayRefreshRate();
+    }
+
+    public void start() {
+        if (running) return;
+        running = true;
+        simThread = new Thread(this::simulate, "game-sim");
+        simThread.setDaemon(true);
+        simThread.start();
+        thread = new Thread(this, "game-loop");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /** Para los dos hilos; al volver, la simulación ya no está dentro de ningún tick. */
+    public void stop() {
+        running = false;
+        Thread pacer = thread;
+        Thread sim = simThread;
+        thread = null;
+        simThread = null;
+        if (pacer != null) pacer.interrupt();
+        if (sim != null) {
+            sim.interrupt();
+            // no se espera al hilo de ritmo: puede estar esperando al EDT, que es quien suele llamar aquí
+            if (sim != Thread.currentThread()) {
+                try {
+                    sim.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /** Activa o quita el ritmo reducido (se aplica desde el siguiente frame). */
+    public void setIdle(boolean idle) {
+        this.idle = idle;
+    }
+
+    public boolean isIdle() {
+        return idle;
+    }
+
+    /** Cuánto se avanzó en [0,1) desde el tick de la hora dada hacia el siguiente. */
+    public static double alphaAt(long tickNanos, long frameNanos) {
+        long since = frameNanos - tickNanos;
+        if (since <= 0) return 0;
+        if (since >= TICK_NANOS) return (double) (TICK_NANOS - 1) / TICK_NANOS;
+        return (double) since / TICK_NANOS;
+    }
+
+    // hilo de simulación: ticks a hora fija
+    private void simulate() {
+        long next = System.nanoTime();
+        while (running && Thread.currentThread() == simThread) {
+            int steps = 0;
+            while (System.nanoTime() - next >= 0 && steps < MAX_CATCH_UP_TICKS) {
+                try {
+                    listener.tick(next);
+                } catch (RuntimeException e) {
+                    e.printStackTrace();
+                }
+                next += TICK_NANOS;
+                steps++;
+            }
+            // tras un parón largo no intentamos recuperar todo el tiempo perdido
+            long late = System.nanoTime() - next;
+            if (late >= 0) next += (late / TICK_NANOS + 1) * TICK_NANOS;
+
+            if (!sleepUntil(next)) break;
+        }
+    }
+
+    // hilo que marca el ritmo de dibujo: cada frame se ejecuta en el EDT
+    @Override
+    public void run() {
+        while (running && Thread.currentThread() == thread) {
+            long frameStart = System.nanoTime();
+            try {
+                SwingUtilities.invokeAndWait(frameTask);
+            } catch (InterruptedException e) {
+                break;
+            } catch (InvocationTargetException e) {
+                e.getCause().printStackTrace();
+            }
+
+            long wake = frameStart + (idle ? IDLE_FRAME_NANOS : frameNanos);
+            if (wake - System.nanoTime() > 0) {
+                if (!sleepUntil(wake)) break;
+            } else {
+                Thread.yield();
+            }
+        }
+    }
+
+    private void frame() {
+        if (!running) return;
+        listener.render(System.nanoTime());
+    }
+
+    // false si se interrumpió (stop)
+    private static boolean sleepUntil(long wakeNanos) {
+        long sleep = wakeNanos - System.nanoTime();
+        if (sleep <= 0) return true;
+        try {
+            Thread.sleep(sleep / 1_000_000L, (int) (sleep % 1_000_000L));
+            return true;
+        } catch (InterruptedException e) {
+            return false;
+        }
+    }
+
+    private static int displayRefreshRate() {
+        if (GraphicsEnvironment.isHeadless()) return FALLBACK_REFRESH_RATE;
+        int rate = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                .getDefaultScreenDevice().getDisplayMode().getRefreshRate();
+        return rate == DisplayMode.REFRESH_RATE_UNKNOWN ? FALLBACK_REFRESH_RATE : rate;
+    }
+}
@@ -0,0 +1,40 @@
+package game;
+
+/**
+ * Cifras de la generación de una mazmorra: cuánto trabajo hizo cada fase.
+ * Sirve para benchmarks y depuración; RoomDungeon la rellena al generarse.
+ */
+public class GenerationStats {
+
+    public int cells;
+    /** Pasadas de separación hechas, incluida la última que ya no movió nada. */
+    public int separationIterations;
+    /** false si se llegó al máximo de pasadas con celdas aún moviéndose. */
+    public boolean separationConverged;
+    public long separationNanos;
+    public int rooms;
+    /** Aristas del grafo de vecinos (k más próximos, sin repetir). */
+    public int graphEdges;
+    public long graphNanos;
+    /** Aristas que acaban en pasillo: las del árbol de expansión mínima más los bucles. */
+    public int corridorEdges;
+    public long mstNanos;
+    /** Trozos de pared antes de abrir los huecos de los pasillos. */
+    public int wallSegments;
+    public long carveNanos;
+    /** Paredes tras abrir los huecos y tras unir las alineadas. */
+    public int carvedWalls;
+    public int mergedWalls;
+    public long mergeNanos;
+
+    @Override
+    public String toString() {
+        return String.format("%d celdas, separación: %d pasadas%s en %.2f ms; %d salas, grafo: %d aristas en %.2f ms; "
+                        + "pasillos: %d aristas en %.2f ms; huecos: %d paredes en %.2f ms; "
+                        + "unión: %d -> %d paredes en %.2f ms",
+                cells, separationIterations, separationConverged ? "" : " (sin converger)",
+                separationNanos / 1e6, rooms, graphEdges, graphNanos / 1e6,
+                corridorEdges, mstNanos / 1e6, wallSegments, carveNanos / 1e6,
+                carvedWalls, mergedWalls, mergeNanos / 1e6);
+    }
+}
@@ -0,0 +1,56 @@
+package game;
+
+/**
+ * Ejecuta la simulación sin ventana ni Swing, a toda velocidad.
+ * Uso: java -cp LimitBreak.jar game.HeadlessMain [ticks]
+ *
+ * El jugador sigue un guion fijo (correr a la derecha hasta la puerta y saltar
+ * de vez en cuando) y al final se imprime cuántos ticks por segundo se simularon,
+ * junto con las cifras de generar la mazmorra de la misma semilla.
+ * Que un tick estable no asigne memoria lo comprueba SteadyStateAllocationTest.
+ */
+public class HeadlessMain {
+
+    // misma semilla y mismo guion: misma partida en cada ejecución
+    private static final long SEED = 42;
+
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        int ticks = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+
+        World world = new World(SEED);
+        InputFrame input = new InputFrame();
+
+        long start = System.nanoTime();
+        run(world, input, 0, ticks);
+        long elapsed = System.nanoTime() - start;
+
+        Player p = world.getPlayer();
+        System.out.printf("%d ticks en %.1f ms (%.0f ticks/s)%n",
+                ticks, elapsed / 1e6, ticks / (elapsed / 1e9));
+        System.out.printf("sala: %s, jugador en (%d, %d), vida %d/%d%n",
+                world.getCurrentRoom().getClass().getSimpleName(),
+                p.getX(), p.getY(), p.getHealth(), p.getMaxHealth());
+        Assets assets = Assets.get();
+        System.out.printf("recursos: %d entradas, %d KB, cargados en %.1f ms%n",
+                assets.count(), assets.memoryBytes() / 1024, assets.loadNanos() / 1e6);
+        System.out.printf("mazmorra (semilla %d): %s%n", SEED, new RoomDungeon(SEED).getStats());
+    }
+
+    private static void run(World world, InputFrame input, int first, int count) {
+        for (int i = first; i < first + count; i++) {
+            scriptedInput(input, i);
+            world.step(input);
+            input.clearEdges();
+        }
+    }
+
+    // corre a la derecha, salta cada medio segundo y ataca de vez en cuando
+    private static void scriptedInput(InputFrame input, int tick) {
+        input.right = (tick / 240) % 4 != 3;
+        input.left = !input.right;
+        input.jump = tick % 30 == 0;
+        input.attackStart = tick % 90 == 0;
+        input.attackStop = tick % 90 == 20;
+    }
+}
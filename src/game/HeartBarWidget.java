@@ -0,0 +1,62 @@
+package game;
+
+import java.awt.*;
+import java.util.function.IntSupplier;
+
+/** Barra de corazones: uno lleno por punto de vida y uno gris por cada hueco. */
+public class HeartBarWidget implements HudWidget {
+
+    private static final Color EMPTY_SLOT = new Color(60, 60, 60);
+    private static final int SIZE = 32;
+    private static final int SPACING = 40;
+
+    private final IntSupplier healthSource;
+    private final IntSupplier maxHealthSource;
+    private final SpriteAtlas.Sprite heart;
+    private final int x, y;
+
+    // último estado dibujado
+    private int health = -1;
+    private int maxHealth = -1;
+
+    public HeartBarWidget(Player player, SpriteAtlas.Sprite heart, int x, int y) {
+        this(player::getHealth, player::getMaxHealth, heart, x, y);
+    }
+
+    // vida leída de cualquier fuente (por ejemplo la última instantánea de render)
+    public HeartBarWidget(IntSupplier health, IntSupplier maxHealth, SpriteAtlas.Sprite heart, int x, int y) {
+        this.healthSource = health;
+        this.maxHealthSource = maxHealth;
+        this.heart = heart;
+        this.x = x;
+        this.y = y;
+    }
+
+    @Override
+    public boolean update() {
+        int h = healthSource.getAsInt();
+        int max = maxHealthSource.getAsInt();
+        if (h == health && max == maxHealth) return false;
+        health = h;
+        maxHealth = max;
+        return true;
+    }
+
+    @Override
+    public Rectangle getBounds(int viewWidth, int viewHeight) {
+        return new Rectangle(x, y, Math.max(0, maxHealth * SPACING - (SPACING - SIZE)), SIZE);
+    }
+
+    @Override
+    public void paint(Graphics2D g, int viewWidth, int viewHeight) {
+        for (int i = 0; i < maxHealth; i++) {
+            int hx = x + i * SPACING;
+            if (heart != null && i < health) {
+                heart.draw(g, hx, y);
+            } else {
+                g.setColor(EMPTY_SLOT);
+                g.fillRect(hx, y, SIZE, SIZE);
+            }
+        }
+    }
+}
@@ -1,9 +1,6 @@
 package game;
 
 import java.awt.Image;
-import java.io.File;
-import java.io.IOException;
-import javax.imageio.ImageIO;
 
 public class HeartItem extends Item {
 
@@ -17,13 +14,9 @@ public class HeartItem extends Item {
         );
     }
 
+    // compartido por todos los corazones: se lee una sola vez
     private static Image cargarIcono() {
-        try {
-            return ImageIO.read(HeartItem.class.getResourceAsStream("/items/heart.png"));
-        } catch (IOException | IllegalArgumentException e) {
-            System.err.println(" No se pudo cargar el icono del corazón: " + e.getMessage());
-            return null;
-        }
+        return Assets.get().image("/items/heart.png");
     }
 
 
@@ -0,0 +1,92 @@
+package game;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Capa retenida del HUD: los widgets se pintan en una imagen transparente que
+ * solo se rehace cuando alguno cambia o cambia el tamaño de la vista.
+ * La imagen cubre solo la unión de las zonas de los widgets, y el resto de
+ * frames el HUD cuesta una sola copia de esa imagen.
+ */
+public class HudLayer {
+
+    private final List<HudWidget> widgets = new ArrayList<>();
+    private BufferedImage image;
+    private int imageX, imageY;
+    private int lastViewWidth, lastViewHeight;
+    private boolean dirty = true;
+
+    public void add(HudWidget widget) {
+        widgets.add(widget);
+        dirty = true;
+    }
+
+    /** Fuerza el repintado en el próximo frame. */
+    public void invalidate() {
+        dirty = true;
+    }
+
+    public void draw(Graphics2D g, int viewWidth, int viewHeight) {
+        if (viewWidth <= 0 || viewHeight <= 0) return;
+
+        // todos los widgets leen su estado, aunque ya se sepa que hay que repintar
+        for (int i = 0; i < widgets.size(); i++) {
+            if (widgets.get(i).update()) dirty = true;
+        }
+        if (viewWidth != lastViewWidth || viewHeight != lastViewHeight) {
+            lastViewWidth = viewWidth;
+            lastViewHeight = viewHeight;
+            dirty = true;
+        }
+        if (dirty) {
+            rebuild(g.getDeviceConfiguration(), viewWidth, viewHeight);
+            dirty = false;
+        }
+        if (image != null) g.drawImage(image, imageX, imageY, null);
+    }
+
+    /** Libera la imagen de la capa. */
+    public void dispose() {
+        if (image != null) image.flush();
+        image = null;
+        dirty = true;
+    }
+
+    private void rebuild(GraphicsConfiguration gc, int viewWidth, int viewHeight) {
+        Rectangle area = null;
+        for (int i = 0; i < widgets.size(); i++) {
+            Rectangle b = widgets.get(i).getBounds(viewWidth, viewHeight);
+            if (b.isEmpty()) continue;
+            if (area == null) area = b;
+            else area.add(b);
+        }
+        if (area == null) {
+            dispose();
+            return;
+        }
+
+        // se reutiliza la imagen si sigue teniendo el tamaño justo
+        if (image == null || image.getWidth() != area.width || image.getHeight() != area.height) {
+            if (image != null) image.flush();
+            image = gc.createCompatibleImage(area.width, area.height, Transparency.TRANSLUCENT);
+        }
+        imageX = area.x;
+        imageY = area.y;
+
+        Graphics2D ig = image.createGraphics();
+        try {
+            ig.setComposite(AlphaComposite.Clear);
+            ig.fillRect(0, 0, area.width, area.height);
+            ig.setComposite(AlphaComposite.SrcOver);
+            ig.translate(-area.x, -area.y);
+            for (int i = 0; i < widgets.size(); i++) {
+                widgets.get(i).paint(ig, viewWidth, viewHeight);
+            }
+        } finally {
+            ig.dispose();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package game;
+
+import java.awt.*;
+
+/**
+ * Elemento del HUD que se dibuja en la capa cacheada de {@link HudLayer}.
+ * La capa solo se repinta cuando algún widget dice que su estado cambió.
+ */
+public interface HudWidget {
+
+    /** Lee el estado actual; true si es distinto del último que se dibujó. */
+    boolean update();
+
+    /** Zona de pantalla donde dibuja el widget con el último estado leído. */
+    Rectangle getBounds(int viewWidth, int viewHeight);
+
+    /** Dibuja el widget con el estado leído en el último update(), en coordenadas de pantalla. */
+    void paint(Graphics2D g, int viewWidth, int viewHeight);
+}
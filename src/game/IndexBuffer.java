@@ -0,0 +1,53 @@
+package game;
+
+import java.util.Arrays;
+
+/**
+ * Lista de enteros reutilizable para resultados de consultas espaciales.
+ * Solo reserva memoria cuando tiene que crecer; en régimen estable no asigna nada.
+ */
+public final class IndexBuffer {
+    private int[] data;
+    private int size;
+
+    public IndexBuffer() {
+        this(32);
+    }
+
+    public IndexBuffer(int capacity) {
+        data = new int[Math.max(1, capacity)];
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void add(int value) {
+        if (size == data.length) data = Arrays.copyOf(data, size * 2);
+        data[size++] = value;
+    }
+
+    public int get(int i) {
+        return data[i];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** Quita una aparición de value (la última pasa a su hueco); false si no estaba. */
+    public boolean removeValue(int value) {
+        for (int i = 0; i < size; i++) {
+            if (data[i] == value) {
+                data[i] = data[--size];
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Orden ascendente (mismo orden que la lista original de rectángulos). */
+    public void sort() {
+        Arrays.sort(data, 0, size);
+    }
+}
@@ -0,0 +1,27 @@
+package game;
+
+/**
+ * Entrada del jugador para un tick de simulación.
+ * Las teclas mantenidas (izquierda/derecha) persisten entre ticks;
+ * las pulsaciones (salto, ataque) se consumen en el tick que las recibe.
+ */
+public class InputFrame {
+    public boolean left;
+    public boolean right;
+    public boolean jump;
+    public boolean attackStart;
+    public boolean attackStop;
+
+    /** Olvida las pulsaciones de un solo tick, mantiene las teclas sostenidas. */
+    public void clearEdges() {
+        jump = false;
+        attackStart = false;
+        attackStop = false;
+    }
+
+    public void clear() {
+        left = false;
+        right = false;
+        clearEdges();
+    }
+}
@@ -0,0 +1,58 @@
+package game;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cola de teclas sin bloqueos de un productor (el EDT) a un consumidor (el hilo de
+ * simulación). Anillo de enteros de tamaño fijo: cada evento es el código de tecla
+ * y si se pulsó o se soltó. No reserva memoria al encolar ni al sacar.
+ */
+public final class InputQueue {
+
+    /** poll() sin eventos pendientes. */
+    public static final int EMPTY = -1;
+
+    private final int[] events;
+    private final int mask;
+    // head: siguiente a leer (solo lo avanza el consumidor); tail: siguiente a escribir (productor)
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    /** capacity se redondea a la potencia de dos superior. */
+    public InputQueue(int capacity) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        events = new int[size];
+        mask = size - 1;
+    }
+
+    /** Encola un evento; false si la cola está llena (el evento se pierde). */
+    public boolean offer(int keyCode, boolean pressed) {
+        long t = tail.get();
+        if (t - head.get() == events.length) return false;
+        events[(int) t & mask] = keyCode << 1 | (pressed ? 1 : 0);
+        tail.lazySet(t + 1);
+        return true;
+    }
+
+    /** Siguiente evento, o {@link #EMPTY}. */
+    public int poll() {
+        long h = head.get();
+        if (h == tail.get()) return EMPTY;
+        int event = events[(int) h & mask];
+        head.lazySet(h + 1);
+        return event;
+    }
+
+    /** Descarta lo pendiente; solo con el consumidor parado. */
+    public void clear() {
+        head.set(tail.get());
+    }
+
+    public static int keyCode(int event) {
+        return event >>> 1;
+    }
+
+    public static boolean pressed(int event) {
+        return (event & 1) != 0;
+    }
+}
@@ -1,10 +1,11 @@
 package game;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class Inventory {
-    private final List<Item> items = new ArrayList<>();
+    // la simulación lo modifica y el menú lo dibuja desde el EDT: copia al escribir
+    private final List<Item> items = new CopyOnWriteArrayList<>();
 
     public void addItem(Item item) {
         items.add(item);
@@ -2,8 +2,15 @@ package game;
 
 import java.awt.*;
 import java.awt.event.KeyEvent;
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
 import java.util.List;
 
+/**
+ * Menú del jugador (inventario, habilidades, pasivas).
+ * Su estado solo lo cambia la simulación con {@link #handleInput}; el EDT dibuja a
+ * partir de lo que {@link #copyTo} dejó en la instantánea del tick.
+ */
 public class InventoryMenu {
     private final Inventory inventory;
     private final PassiveMenu passiveMenu;
@@ -11,8 +18,7 @@ public class InventoryMenu {
     private boolean visible = false;
     private int currentTab = 0;
     private boolean onTabs = false;
-    private long blinkTimer = 0;
-    private boolean blinkState = true;
+    private static final long BLINK_MILLIS = 400;
     // Scroll y cuadrícula
     private final int cols = 4;
     private final int rows = 6;
@@ -20,6 +26,12 @@ public class InventoryMenu {
     private final int totalSlots = 100; // capacidad total
     private int scrollOffset = 0;
 
+    // fondos translúcidos fijos, pintados una sola vez (con y sin el marco de objetos)
+    private static final int PANEL_X = 40, PANEL_Y = 30, PANEL_W = 710, PANEL_H = 500;
+    private static final int FRAME_X = 90, FRAME_Y = 140, FRAME_W = 360, FRAME_H = 350;
+    private Image panel;
+    private Image panelWithFrame;
+
     public InventoryMenu(Inventory inventory, List<Passive> passives) {
         this.inventory = inventory;
         this.passiveMenu = new PassiveMenu(passives);
@@ -27,6 +39,11 @@ public class InventoryMenu {
     public boolean isVisible() {
         return visible;
     }
+
+    /** Cambia cada vez que parpadea el cursor: sirve para saber si hay que redibujar. */
+    public long blinkPhase() {
+        return System.currentTimeMillis() / BLINK_MILLIS;
+    }
     public void toggle() {
         visible = !visible;
         onTabs = false;
@@ -43,22 +60,35 @@ public class InventoryMenu {
         visible = false;
         onTabs = false;
     }
-    public void draw(Graphics g) {
-        if (!visible) return;
+
+    /** Copia en la instantánea lo que hace falta para dibujar el menú. */
+    public void copyTo(RenderSnapshot s) {
+        s.inventoryVisible = visible;
+        s.inventoryTab = currentTab;
+        s.inventoryOnTabs = onTabs;
+        s.inventorySelected = selectedIndex;
+        s.inventoryScroll = scrollOffset;
+        s.inventorySize = inventory.getItems().size();
+        s.passiveSelected = passiveMenu.getSelectedIndex();
+    }
+
+    public void draw(Graphics g, RenderSnapshot v) {
+        if (!v.inventoryVisible) return;
+        int currentTab = v.inventoryTab;
+        boolean onTabs = v.inventoryOnTabs;
 
         Graphics2D g2d = (Graphics2D) g;
 
-        // Fondo general
-        g2d.setColor(new Color(10, 10, 10, 230));
-        g2d.fillRoundRect(40, 30, 710, 500, 20, 20);
+        // Fondo general (y marco del inventario SOLO en pestana 0)
+        g2d.drawImage(panelImage(g2d, currentTab == 0), PANEL_X, PANEL_Y, null);
 
         // Título
         g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font("Consolas", Font.BOLD, 20));
+        g2d.setFont(UiResources.HEADER);
         g2d.drawString("[ MENÚ DEL JUGADOR ]", 290, 70);
 
         // Pestañas
-        g2d.setFont(new Font("Consolas", Font.PLAIN, 16));
+        g2d.setFont(UiResources.BODY);
         int tabY = 110;
         for (int i = 0; i < 3; i++) {
             String name = switch (i) {
@@ -81,35 +111,50 @@ public class InventoryMenu {
         }
         // Controles
         g2d.setColor(Color.GRAY);
-        g2d.setFont(new Font("Consolas", Font.PLAIN, 14));
+        g2d.setFont(UiResources.HINT);
         g2d.drawString("← → Mover / Cambiar pestaña | ↑↓ Navegar | J Usar | K / I Cerrar", 120, 550);
 
-        if (currentTab == 2 && !passiveMenu.isVisible()) {
-            passiveMenu.toggle(); // asegura que pasivas estén visibles al dibujar pestaña 2
-        }
-
+        // la pestaña 2 siempre muestra las pasivas
         switch (currentTab) {
             case 0 -> {
-                // Marco del inventario SOLO en pestana 0
-                int frameX = 90;
-                int frameY = 140;
-                int frameWidth = 360;
-                int frameHeight = 350;
-
-                g2d.setColor(new Color(20, 20, 20, 200));
-                g2d.fillRoundRect(frameX, frameY, frameWidth, frameHeight, 20, 20);
-                g2d.setColor(Color.GRAY);
-                g2d.drawRoundRect(frameX, frameY, frameWidth, frameHeight, 20, 20);
-
-                drawInventory(g2d, frameX, frameY, frameWidth, frameHeight);
+                drawInventory(g2d, v, FRAME_X, FRAME_Y, FRAME_W, FRAME_H);
             }
             case 1 -> drawAbilitiesPlaceholder(g2d);
-            case 2 -> passiveMenu.draw(g2d);
+            case 2 -> passiveMenu.draw(g2d, v.passiveSelected);
         }
     }
-    private void drawInventory(Graphics g, int frameX, int frameY, int frameWidth, int frameHeight) {
+    private Image panelImage(Graphics2D g, boolean withFrame) {
+        Image cached = withFrame ? panelWithFrame : panel;
+        if (cached != null) return cached;
+
+        BufferedImage img = g.getDeviceConfiguration()
+                .createCompatibleImage(PANEL_W + 1, PANEL_H + 1, Transparency.TRANSLUCENT);
+        Graphics2D ig = img.createGraphics();
+        ig.setColor(UiResources.PANEL_BACKGROUND);
+        ig.fillRoundRect(0, 0, PANEL_W, PANEL_H, 20, 20);
+        if (withFrame) {
+            ig.translate(-PANEL_X, -PANEL_Y);
+            ig.setColor(UiResources.FRAME_BACKGROUND);
+            ig.fillRoundRect(FRAME_X, FRAME_Y, FRAME_W, FRAME_H, 20, 20);
+            ig.setColor(Color.GRAY);
+            ig.drawRoundRect(FRAME_X, FRAME_Y, FRAME_W, FRAME_H, 20, 20);
+        }
+        ig.dispose();
+
+        if (withFrame) panelWithFrame = img;
+        else panel = img;
+        return img;
+    }
+
+    private void drawInventory(Graphics g, RenderSnapshot v, int frameX, int frameY, int frameWidth, int frameHeight) {
         Graphics2D g2d = (Graphics2D) g;
-        List<Item> items = inventory.getItems();
+        boolean onTabs = v.inventoryOnTabs;
+        int selectedIndex = v.inventorySelected;
+        int scrollOffset = v.inventoryScroll;
+        // la lista es de copia al escribir: su iterador es una foto estable aunque
+        // la simulación gaste un objeto mientras se dibuja
+        Iterator<Item> items = inventory.getItems().iterator();
+        Item selected = null;
 
         int iconSize = 70;
         int spacing = 10;
@@ -117,16 +162,14 @@ public class InventoryMenu {
         int startX = frameX + 20;
         int startY = frameY + 20;
 
-        if (System.currentTimeMillis() - blinkTimer > 400) {
-            blinkTimer = System.currentTimeMillis();
-            blinkState = !blinkState;
-        }
+        boolean blinkState = blinkPhase() % 2 == 0;
         // Recorte visual limitar dibujo al área del marco
         Shape originalClip = g2d.getClip();
         g2d.setClip(new Rectangle(frameX + 5, frameY + 5, frameWidth - 10, frameHeight - 10));
 
         int startIndex = scrollOffset;
         int endIndex = Math.min(startIndex + visibleSlots, totalSlots);
+        for (int i = 0; i < startIndex && items.hasNext(); i++) items.next();
 
         for (int i = startIndex; i < endIndex; i++) {
             int localIndex = i - startIndex;
@@ -135,9 +178,10 @@ public class InventoryMenu {
             int x = startX + col * (iconSize + spacing);
             int y = startY + row * (iconSize + spacing);
 
-            Item item = i < items.size() ? items.get(i) : null;
+            Item item = items.hasNext() ? items.next() : null;
+            if (i == selectedIndex) selected = item;
 
-            g2d.setColor(new Color(30, 30, 30));
+            g2d.setColor(UiResources.SLOT_BACKGROUND);
             g2d.fillRoundRect(x, y, iconSize, iconSize, 10, 10);
 
             if (!onTabs && i == selectedIndex && blinkState) {
@@ -157,7 +201,7 @@ public class InventoryMenu {
             }
 
             if (item != null && item.getIcon() != null) {
-                g2d.drawImage(item.getIcon(), x + 4, y + 4, 56, 56, null);
+                SpriteAtlas.get().sprite(item.getIcon(), 56, 56).draw(g2d, x + 4, y + 4);
             } //else if (item != null) {
                 //g2d.setColor(Color.WHITE);
                 //g2d.setFont(new Font("Arial", Font.PLAIN, 12));
@@ -181,27 +225,26 @@ public class InventoryMenu {
             g2d.drawString("▼", frameX + frameWidth - 20, frameY + frameHeight - 10);
         }
 
-        // Descripcion del ítem
-        if (!onTabs && selectedIndex < items.size()) {
-            Item selected = items.get(selectedIndex);
+        // Descripcion del ítem (el cursor siempre cae en la parte visible)
+        if (!onTabs && selected != null) {
             int infoX = 500;
             int infoY = 200;
 
             g2d.setColor(Color.WHITE);
-            g2d.setFont(new Font("Consolas", Font.BOLD, 18));
+            g2d.setFont(UiResources.ITEM_NAME);
             g2d.drawString(selected.getNombre(), infoX, infoY);
-            g2d.setFont(new Font("Consolas", Font.PLAIN, 14));
+            g2d.setFont(UiResources.HINT);
             g2d.setColor(Color.LIGHT_GRAY);
             g2d.drawString("Descripción:", infoX, infoY + 30);
 
             g2d.setColor(Color.WHITE);
-            g2d.setFont(new Font("Arial", Font.ITALIC, 14));
-            drawMultilineText(g2d, selected.getDescripcion(), infoX, infoY + 50, 250, 18);
+            TextLayoutCache.get().layout(g2d, selected.getDescripcion(), UiResources.DESCRIPTION, 250)
+                    .draw(g2d, infoX, infoY + 50, 18);
         }
     }
     private void drawAbilitiesPlaceholder(Graphics g) {
         g.setColor(Color.LIGHT_GRAY);
-        g.setFont(new Font("Consolas", Font.PLAIN, 18));
+        g.setFont(UiResources.SUBTITLE);
         g.drawString("[ En desarrollo ]", 330, 300);
     }
 
@@ -220,8 +263,8 @@ public class InventoryMenu {
                 }
                 case KeyEvent.VK_DOWN -> {
                     onTabs = false;
-                    if (currentTab == 2 && !passiveMenu.isVisible()) {
-                        passiveMenu.toggle(); // ✅ muestra pasivas al entrar a pestaña 2
+                    if (currentTab == 2) {
+                        passiveMenu.show(); // ✅ muestra pasivas al entrar a pestaña 2
                     }
                 }
                 case KeyEvent.VK_K, KeyEvent.VK_I -> {
@@ -274,28 +317,10 @@ public class InventoryMenu {
                 hide();             // ✅ oculta inventario
             }
         }
-        if (currentTab == 2) {
-            passiveMenu.toggle(); // ✅ muestra pasivas si la pestaña activa es 2
+        if (currentTab == 2 && visible) {
+            passiveMenu.show(); // ✅ muestra pasivas si la pestaña activa es 2
         }
 
 
     }
-    private void drawMultilineText(Graphics g, String text, int x, int y, int width, int lineHeight) {
-        FontMetrics fm = g.getFontMetrics();
-        String[] words = text.split(" ");
-        StringBuilder line = new StringBuilder();
-        int drawY = y;
-
-        for (String word : words) {
-            String testLine = line + word + " ";
-            if (fm.stringWidth(testLine) > width) {
-                g.drawString(line.toString(), x, drawY);
-                line = new StringBuilder(word + " ");
-                drawY += lineHeight;
-            } else {
-                line.append(word).append(" ");
-            }
-        }
-        g.drawString(line.toString(), x, drawY);
-    }
 }
\ No newline at end of file
@@ -0,0 +1,172 @@
+package game;
+
+/**
+ * Árbol k-d (2D) sobre un conjunto fijo de puntos enteros, para buscar los k
+ * vecinos más próximos sin comparar contra todos.
+ * El árbol es implícito: una permutación de índices donde cada rango tiene su
+ * mediana en el centro, partiendo alternativamente por x y por y.
+ *
+ * Los empates de distancia se deshacen por índice menor, igual que ordenar por
+ * distancia con un sort estable sobre los índices en orden ascendente.
+ * Las consultas usan arrays internos: un árbol no se consulta desde varios hilos.
+ */
+public final class KdTree {
+
+    private final int[] xs, ys;
+    private final int[] order; // permutación de índices en forma de árbol
+
+    // montículo de máximos (por distancia y luego índice) con los k mejores de la consulta
+    private long[] heapDist = new long[0];
+    private int[] heapIndex = new int[0];
+    private int[] popped = new int[0];
+    private int heapSize;
+    private int heapLimit;
+
+    public KdTree(int[] xs, int[] ys, int count) {
+        this.xs = xs;
+        this.ys = ys;
+        order = new int[count];
+        for (int i = 0; i < count; i++) order[i] = i;
+        build(0, count, 0);
+    }
+
+    /**
+     * Escribe en out (vaciándolo antes) los k puntos más próximos a (x, y) sin contar
+     * exclude, del más cercano al más lejano. Devuelve cuántos hay (menos de k si no
+     * hay tantos puntos).
+     */
+    public int nearest(int x, int y, int k, int exclude, IndexBuffer out) {
+        out.clear();
+        if (k <= 0) return 0;
+        if (heapDist.length < k) {
+            heapDist = new long[k];
+            heapIndex = new int[k];
+            popped = new int[k];
+        }
+        heapSize = 0;
+        heapLimit = k;
+        search(0, order.length, 0, x, y, exclude);
+
+        // sacar del montículo de mayor a menor y escribir al revés
+        int n = heapSize;
+        for (int i = n - 1; i >= 0; i--) {
+            popped[i] = heapIndex[0];
+            pop();
+        }
+        for (int i = 0; i < n; i++) out.add(popped[i]);
+        return n;
+    }
+
+    /** Distancia al cuadrado en long (sin desbordar con coordenadas grandes). */
+    public static long distanceSq(int ax, int ay, int bx, int by) {
+        long dx = (long) ax - bx;
+        long dy = (long) ay - by;
+        return dx * dx + dy * dy;
+    }
+
+    // ---------- construcción ----------
+
+    private void build(int lo, int hi, int depth) {
+        if (hi - lo <= 1) return;
+        int mid = (lo + hi) >>> 1;
+        select(lo, hi - 1, mid, (depth & 1) == 0 ? xs : ys);
+        build(lo, mid, depth + 1);
+        build(mid + 1, hi, depth + 1);
+    }
+
+    // quickselect: deja en order[k] el que iría ahí ordenando por key, menores a la izquierda
+    private void select(int lo, int hi, int k, int[] key) {
+        while (lo < hi) {
+            int pivot = key[order[(lo + hi) >>> 1]];
+            int i = lo, j = hi;
+            while (i <= j) {
+                while (key[order[i]] < pivot) i++;
+                while (key[order[j]] > pivot) j--;
+                if (i <= j) {
+                    int t = order[i];
+                    order[i] = order[j];
+                    order[j] = t;
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) hi = j;
+            else if (k >= i) lo = i;
+            else return;
+        }
+    }
+
+    // ---------- consulta ----------
+
+    private void search(int lo, int hi, int depth, int x, int y, int exclude) {
+        if (lo >= hi) return;
+        int mid = (lo + hi) >>> 1;
+        int p = order[mid];
+        if (p != exclude) offer(distanceSq(x, y, xs[p], ys[p]), p);
+
+        boolean byX = (depth & 1) == 0;
+        long diff = byX ? (long) x - xs[p] : (long) y - ys[p];
+        // primero el lado del punto; el otro solo si el plano está a distancia <= que el peor
+        // (con igual distancia puede haber un índice menor al otro lado)
+        if (diff < 0) {
+            search(lo, mid, depth + 1, x, y, exclude);
+            if (heapSize < heapLimit || diff * diff <= heapDist[0]) search(mid + 1, hi, depth + 1, x, y, exclude);
+        } else {
+            search(mid + 1, hi, depth + 1, x, y, exclude);
+            if (heapSize < heapLimit || diff * diff <= heapDist[0]) search(lo, mid, depth + 1, x, y, exclude);
+        }
+    }
+
+    private void offer(long dist, int index) {
+        if (heapSize < heapLimit) {
+            heapDist[heapSize] = dist;
+            heapIndex[heapSize] = index;
+            siftUp(heapSize++);
+        } else if (worse(heapDist[0], heapIndex[0], dist, index)) {
+            heapDist[0] = dist;
+            heapIndex[0] = index;
+            siftDown(0);
+        }
+    }
+
+    private void pop() {
+        heapSize--;
+        heapDist[0] = heapDist[heapSize];
+        heapIndex[0] = heapIndex[heapSize];
+        siftDown(0);
+    }
+
+    // (da, ia) va detrás de (db, ib): más lejos, o igual de lejos con índice mayor
+    private static boolean worse(long da, int ia, long db, int ib) {
+        return da > db || (da == db && ia > ib);
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!worse(heapDist[i], heapIndex[i], heapDist[parent], heapIndex[parent])) return;
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int l = 2 * i + 1, r = l + 1, top = i;
+            if (l < heapSize && worse(heapDist[l], heapIndex[l], heapDist[top], heapIndex[top])) top = l;
+            if (r < heapSize && worse(heapDist[r], heapIndex[r], heapDist[top], heapIndex[top])) top = r;
+            if (top == i) return;
+            swap(i, top);
+            i = top;
+        }
+    }
+
+    private void swap(int a, int b) {
+        long d = heapDist[a];
+        heapDist[a] = heapDist[b];
+        heapDist[b] = d;
+        int t = heapIndex[a];
+        heapIndex[a] = heapIndex[b];
+        heapIndex[b] = t;
+    }
+}
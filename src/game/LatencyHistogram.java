@@ -0,0 +1,78 @@
+package game;
+
+import java.io.PrintWriter;
+import java.util.Arrays;
+
+/**
+ * Histograma de tiempos estilo HDR: cubetas log-lineales preasignadas,
+ * con unos 32 sub-niveles por potencia de dos (~3% de error relativo).
+ * Registrar un valor no reserva memoria.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BITS = 5;
+    private static final int SUB_COUNT = 1 << SUB_BITS;      // 32
+    private static final int LINEAR_LIMIT = SUB_COUNT * 2;   // 0..63 exactos
+    private static final int MAX_SHIFT = 36;                 // hasta ~2^41 ns (~36 min)
+    private static final int BUCKETS = LINEAR_LIMIT + MAX_SHIFT * SUB_COUNT;
+
+    private final long[] counts = new long[BUCKETS];
+    private long totalCount = 0;
+    private long max = 0;
+    private long sum = 0;
+
+    public void record(long value) {
+        if (value < 0) value = 0;
+        counts[indexOf(value)]++;
+        totalCount++;
+        sum += value;
+        if (value > max) max = value;
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        max = 0;
+        sum = 0;
+    }
+
+    public long getCount() { return totalCount; }
+    public long getMax() { return max; }
+    public double getMean() { return totalCount == 0 ? 0 : (double) sum / totalCount; }
+
+    /** Valor (cota superior de su cubeta) por debajo del cual cae el percentil dado (0-100). */
+    public long valueAtPercentile(double percentile) {
+        if (totalCount == 0) return 0;
+        long target = Math.max(1, (long) Math.ceil(totalCount * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= target) return Math.min(max, highestValueIn(i));
+        }
+        return max;
+    }
+
+    /** Vuelca las cubetas no vacías como "valor_ns cuenta". */
+    public void writeBuckets(PrintWriter out) {
+        for (int i = 0; i < BUCKETS; i++) {
+            if (counts[i] != 0) out.println(highestValueIn(i) + " " + counts[i]);
+        }
+    }
+
+    private static int indexOf(long v) {
+        if (v < LINEAR_LIMIT) return (int) v;
+        int msb = 63 - Long.numberOfLeadingZeros(v);
+        int shift = msb - SUB_BITS;
+        if (shift > MAX_SHIFT) return BUCKETS - 1;
+        int mantissa = (int) (v >>> shift);       // en [32, 63]
+        return LINEAR_LIMIT + (shift - 1) * SUB_COUNT + (mantissa - SUB_COUNT);
+    }
+
+    private static long highestValueIn(int index) {
+        if (index < LINEAR_LIMIT) return index;
+        int rel = index - LINEAR_LIMIT;
+        int shift = rel / SUB_COUNT + 1;
+        long mantissa = SUB_COUNT + (rel % SUB_COUNT);
+        return ((mantissa + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,55 @@
+package game;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+
+/**
+ * Fondo de los menús: negro con líneas azules al azar que cambian con cada
+ * parpadeo del menú (next()). Las líneas se pintan en una imagen que se reutiliza
+ * mientras no toque cambiarlas, en lugar de generar 60 líneas nuevas en cada repintado.
+ */
+public class MenuBackground {
+
+    private static final int LINES = 60;
+
+    private final Random rand = new Random();
+    private BufferedImage image;
+    private boolean stale = true;
+
+    /** Líneas nuevas en el próximo draw; los menús lo llaman en cada parpadeo. */
+    public void next() {
+        stale = true;
+    }
+
+    public void draw(Graphics g, int width, int height) {
+        if (width <= 0 || height <= 0) return;
+        if (image == null || image.getWidth() != width || image.getHeight() != height) {
+            if (image != null) image.flush();
+            image = ((Graphics2D) g).getDeviceConfiguration().createCompatibleImage(width, height, Transparency.OPAQUE);
+            stale = true;
+        }
+        if (stale) {
+            stale = false;
+            Graphics2D ig = image.createGraphics();
+            ig.setColor(Color.BLACK);
+            ig.fillRect(0, 0, width, height);
+            ig.setColor(UiResources.MENU_LINES);
+            for (int i = 0; i < LINES; i++) {
+                int x1 = rand.nextInt(width);
+                int y1 = rand.nextInt(height);
+                int x2 = x1 + rand.nextInt(40) - 20;
+                int y2 = y1 + rand.nextInt(40) - 20;
+                ig.drawLine(x1, y1, x2, y2);
+            }
+            ig.dispose();
+        }
+        g.drawImage(image, 0, 0, null);
+    }
+
+    /** Libera la imagen (al quitar el menú de la ventana). */
+    public void dispose() {
+        if (image != null) image.flush();
+        image = null;
+    }
+}
@@ -21,19 +21,26 @@ public class PassiveMenu {
         visible = !visible;
     }
 
+    public void show() {
+        visible = true;
+    }
+
     public void hide() {
         visible = false;
     }
 
-    public void draw(Graphics g) {
-        if (!visible) return;
+    public int getSelectedIndex() {
+        return selectedIndex;
+    }
 
+    /** Dibuja la pasiva dada (la selección copiada en la instantánea, no la de ahora). */
+    public void draw(Graphics g, int selectedIndex) {
         // Marco superior
-        g.setColor(new Color(180, 160, 220)); // violeta claro
-        g.setFont(new Font("Consolas", Font.BOLD, 20));
+        g.setColor(UiResources.PASSIVE_TEXT); // violeta claro
+        g.setFont(UiResources.HEADER);
 
         // Menú de navegación
-        g.setFont(new Font("Consolas", Font.PLAIN, 16));
+        g.setFont(UiResources.BODY);
 
         // Cuadro del fragmento (izquierda)
         g.drawRect(100, 120, 320, 320); // espacio para sprite 16x16 escalado
@@ -48,24 +55,22 @@ public class PassiveMenu {
         g.drawString("Tipo: " + selected.getTipo(), infoX, infoY + 30);
         g.drawString("Descripción:", infoX, infoY + 60);
 
-        // Texto multilinea
-        FontMetrics fm = g.getFontMetrics();
-        String[] descLines = selected.getDescripcion().split("\n");
-        for (int i = 0; i < descLines.length; i++) {
-            g.drawString(descLines[i], infoX, infoY + 90 + (i * fm.getHeight()));
-        }
+        // Texto multilinea (partido y medido una sola vez)
+        Graphics2D g2d = (Graphics2D) g;
+        TextLayoutCache.get().layout(g2d, selected.getDescripcion(), UiResources.BODY, 0)
+                .draw(g2d, infoX, infoY + 90, g.getFontMetrics().getHeight());
 
         //g.drawString("Estado: " + selected.getEstado(), infoX, infoY + 180);
         //g.drawString("Efecto: " + selected.getEfecto(), infoX, infoY + 210);
 
         // Contemplacion visual
-        g.setFont(new Font("Consolas", Font.ITALIC, 14));
-        g.setColor(new Color(200, 180, 240));
+        g.setFont(UiResources.HINT_ITALIC);
+        g.setColor(UiResources.PASSIVE_FLAVOR);
         g.drawString("Este fragmento representa una parte rota del alma.", 100, 480);
         g.drawString("No se puede quitar. No se puede ignorar. Solo observar.", 100, 500);
 
         // Controles
-        g.setFont(new Font("Consolas", Font.PLAIN, 14));
+        g.setFont(UiResources.HINT);
         g.setColor(Color.GRAY);
         //g.drawString("↑↓ Mover / J Usar / K Cancelar / I Cerrar", 220, 360);
     }
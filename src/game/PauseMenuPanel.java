@@ -3,30 +3,30 @@ package game;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
-import java.util.Random;
 
-public class PauseMenuPanel extends JPanel {
+public class PauseMenuPanel extends JPanel implements Screen {
     private final String[] options = {"Regresar al juego", "Volver al menú principal", "Salir"};
     private int selectedIndex = 0;
-    private final StartMenuLauncher launcher;
+    private final ScreenManager screens;
     private final Game previousGame;
-    private final Random rand = new Random();
+    private final MenuBackground background = new MenuBackground();
 
     private boolean blinkState = true;
     private Timer blinkTimer;
 
-    public PauseMenuPanel(StartMenuLauncher launcher, Game previousGame) {
-        this.launcher = launcher;
+    public PauseMenuPanel(ScreenManager screens, Game previousGame) {
+        this.screens = screens;
         this.previousGame = previousGame;
 
         setFocusable(true);
         setBackground(Color.BLACK);
 
+        // en cada parpadeo cambian también las líneas del fondo: se repinta todo
         blinkTimer = new Timer(500, e -> {
             blinkState = !blinkState;
+            background.next();
             repaint();
         });
-        blinkTimer.start();
 
         addKeyListener(new KeyAdapter() {
             @Override
@@ -36,6 +36,23 @@ public class PauseMenuPanel extends JPanel {
         });
     }
 
+    // el parpadeo solo corre mientras la pausa está en la ventana
+    @Override
+    public void onShow() {
+        blinkTimer.start();
+    }
+
+    @Override
+    public void onHide() {
+        blinkTimer.stop();
+    }
+
+    @Override
+    public void dispose() {
+        onHide();
+        background.dispose();
+    }
+
     @Override
     public void addNotify() {
         super.addNotify();
@@ -48,12 +65,12 @@ public class PauseMenuPanel extends JPanel {
             case KeyEvent.VK_DOWN -> selectedIndex = (selectedIndex + 1) % options.length;
             case KeyEvent.VK_ENTER, KeyEvent.VK_J -> {
                 switch (selectedIndex) {
-                    case 0 -> launcher.resumeGame(previousGame); // Regresar al juego
-                    case 1 -> launcher.showMenu();               // Volver al menú principal
-                    case 2 -> launcher.exitGame();               // Salir
+                    case 0 -> screens.resumeGame(previousGame); // Regresar al juego
+                    case 1 -> screens.showMenu();               // Volver al menú principal
+                    case 2 -> screens.exitGame();               // Salir
                 }
             }
-            case KeyEvent.VK_ESCAPE -> launcher.resumeGame(previousGame); // ESC también regresa al juego
+            case KeyEvent.VK_ESCAPE -> screens.resumeGame(previousGame); // ESC también regresa al juego
         }
         repaint();
         requestFocusInWindow();
@@ -63,27 +80,16 @@ public class PauseMenuPanel extends JPanel {
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
 
-        // Fondo negro
-        g.setColor(Color.BLACK);
-        g.fillRect(0, 0, getWidth(), getHeight());
-
-        // Líneas azules como en StartMenuPanel
-        g.setColor(new Color(100, 100, 255, 80));
-        for (int i = 0; i < 60; i++) {
-            int x1 = rand.nextInt(getWidth());
-            int y1 = rand.nextInt(getHeight());
-            int x2 = x1 + rand.nextInt(40) - 20;
-            int y2 = y1 + rand.nextInt(40) - 20;
-            g.drawLine(x1, y1, x2, y2);
-        }
+        // Fondo negro con líneas azules como en StartMenuPanel (cacheado)
+        background.draw(g, getWidth(), getHeight());
 
         // Título
         g.setColor(Color.WHITE);
-        g.setFont(new Font("Serif", Font.BOLD, 48));
+        g.setFont(UiResources.TITLE);
         g.drawString("PAUSA", getWidth() / 2 - 80, 100);
 
         // Opciones
-        g.setFont(new Font("Consolas", Font.PLAIN, 24));
+        g.setFont(UiResources.MENU);
         for (int i = 0; i < options.length; i++) {
             boolean selected = (i == selectedIndex);
             String label = options[i];
@@ -94,7 +100,7 @@ public class PauseMenuPanel extends JPanel {
         }
 
         // Instrucciones
-        g.setFont(new Font("Consolas", Font.PLAIN, 14));
+        g.setFont(UiResources.HINT);
         g.setColor(Color.GRAY);
         g.drawString(" ↑ ↓ para moverse | J para seleccionar | ESC para regresar", getWidth() / 2 - 200, 450);
     }
@@ -1,10 +1,10 @@
 package game;
 
 import java.awt.*;
-import java.util.List;
 
 public class Player {
     private int x, y;
+    private int prevX, prevY; // posición del tick anterior (interpolación)
     private int width, height;
     private int speed;
 
@@ -24,11 +24,14 @@ public class Player {
     private boolean movingRight = false;
     private boolean onGround = false;
 
+    // reloj de juego: todos los tiempos van en ticks
+    private final GameClock clock;
+
     // coyote & buffer
-    private long lastGroundedTime = 0;
-    private long jumpPressedTime = 0;
-    private final long coyoteTime = 120;
-    private final long jumpBuffer = 120;
+    private long lastGroundedTick = GameClock.NEVER;
+    private long jumpPressedTick = GameClock.NEVER;
+    private final long coyoteTicks = GameClock.ticksFor(120);
+    private final long jumpBufferTicks = GameClock.ticksFor(120);
 
     // doble salto
     private boolean canDoubleJump = false;
@@ -40,31 +43,29 @@ public class Player {
 
     // ataque
     private boolean attacking = false;
-    private long attackStart = 0;
-    private final long attackDuration = 300;
+    private long attackStartTick = 0;
+    private final long attackDurationTicks = GameClock.ticksFor(300);
+
+    // sprites: animación del atlas compartido (null si faltan recursos)
+    private final SpriteAtlas.Animation idle;
+    private final long frameDelayTicks = GameClock.ticksFor(150);
 
-    // sprites (si tienes)
-    private Image[] idleFrames;
-    private int currentFrame = 0;
-    private long lastFrameTime = 0;
-    private final int frameDelay = 150;
+    // sólidos cercanos (se reutiliza en cada tick)
+    private final IndexBuffer nearby = new IndexBuffer();
 
-    public Player(int x, int y, int width, int height, int speed) {
+    public Player(int x, int y, int width, int height, int speed, GameClock clock) {
+        this.clock = clock;
         this.x = x;
         this.y = y;
+        this.prevX = x;
+        this.prevY = y;
         this.width = width;
         this.height = height;
         this.speed = speed;
 
-        // carga silenciosa si existen recursos (no falla si no encuentra)
-        try {
-            idleFrames = new Image[3];
-            idleFrames[0] = Toolkit.getDefaultToolkit().getImage(getClass().getResource("/player/idle1.png"));
-            idleFrames[1] = Toolkit.getDefaultToolkit().getImage(getClass().getResource("/player/idle2.png"));
-            idleFrames[2] = Toolkit.getDefaultToolkit().getImage(getClass().getResource("/player/idle3.png"));
-        } catch (Exception ignored) {
-            idleFrames = null;
-        }
+        // frames ya escalados al tamaño del jugador (si falta alguno, se dibuja un rectángulo)
+        idle = SpriteAtlas.get().animation(frameDelayTicks, width, height,
+                "/player/idle1.png", "/player/idle2.png", "/player/idle3.png");
     }
 
     // getters
@@ -72,11 +73,16 @@ public class Player {
     public int getY() { return y; }
     public int getWidth() { return width; }
     public int getHeight() { return height; }
+    public int getRenderX(double alpha) { return (int) Math.round(prevX + (x - prevX) * alpha); }
+    public int getRenderY(double alpha) { return (int) Math.round(prevY + (y - prevY) * alpha); }
     public Rectangle getBounds() { return new Rectangle(x, y, width, height); }
+    public boolean overlaps(Rectangle r) { return r != null && Aabb.overlaps(r, x, y, width, height); }
 
     public void setPosition(int nx, int ny) {
         this.x = nx;
         this.y = ny;
+        this.prevX = nx;
+        this.prevY = ny;
         velX = 0;
         velY = 0;
     }
@@ -84,14 +90,20 @@ public class Player {
     // inputs
     public void pressLeft(boolean pressed) { movingLeft = pressed; }
     public void pressRight(boolean pressed) { movingRight = pressed; }
-    public void pressJump() { jumpPressedTime = System.currentTimeMillis(); }
-    public void startAttack() { attacking = true; attackStart = System.currentTimeMillis(); }
+    public void pressJump() { jumpPressedTick = clock.ticks(); }
+    public void startAttack() { attacking = true; attackStartTick = clock.ticks(); }
     public void stopAttack() { attacking = false; }
 
     public boolean isAttacking() { return attacking; }
 
-    // actualización: platforms = rectángulos sólidos con coordenadas en píxeles
-    public void update(List<Rectangle> platforms) {
+    /** Frame de animación que se dibuja ahora (0 sin sprites). */
+    public int getAnimationFrame() { return idle == null ? 0 : idle.indexAt(clock.ticks()); }
+
+    // actualización: solo se prueban los sólidos de la sala cercanos al recorrido del tick
+    public void update(Room room) {
+        prevX = x;
+        prevY = y;
+
         // --- horizontal ---
         accelX = 0;
         if (movingLeft) accelX = -ax;
@@ -104,31 +116,34 @@ public class Player {
         if (velX > maxSpeedX) velX = maxSpeedX;
         if (velX < -maxSpeedX) velX = -maxSpeedX;
 
+        int oldX = x;
         x += (int)Math.round(velX);
 
-        // chequear colisiones horizontales
-        Rectangle pr = getBounds();
-        for (Rectangle r : platforms) {
-            if (pr.intersects(r)) {
+        // chequear colisiones horizontales (área barrida en este tick)
+        StaticGeometry solids = room.getPlatforms();
+        room.querySolids(Math.min(oldX, x), y, Math.abs(x - oldX) + width, height, nearby);
+        for (int i = 0; i < nearby.size(); i++) {
+            int s = nearby.get(i);
+            if (solids.intersects(s, x, y, width, height)) {
                 if (velX > 0) {
-                    x = r.x - width;
+                    x = solids.x(s) - width;
                 } else if (velX < 0) {
-                    x = r.x + r.width;
+                    x = solids.x(s) + solids.width(s);
                 }
                 velX = 0;
-                pr = getBounds();
             }
         }
 
         // --- vertical ---
-        if (onGround) lastGroundedTime = System.currentTimeMillis();
-        boolean canJump = (System.currentTimeMillis() - lastGroundedTime) <= coyoteTime;
-        boolean buffered = (System.currentTimeMillis() - jumpPressedTime) <= jumpBuffer;
+        long now = clock.ticks();
+        if (onGround) lastGroundedTick = now;
+        boolean canJump = (now - lastGroundedTick) <= coyoteTicks;
+        boolean buffered = (now - jumpPressedTick) <= jumpBufferTicks;
 
         if (buffered && canJump) {
             velY = jumpStrength;
             onGround = false;
-            jumpPressedTime = 0;
+            jumpPressedTick = GameClock.NEVER;
             canDoubleJump = true;
             doubleJumpUsed = false;
         }
@@ -136,55 +151,62 @@ public class Player {
         velY += gravity;
         if (velY > maxFall) velY = maxFall;
 
+        int oldY = y;
         y += (int)Math.round(velY);
 
         // colisiones verticales
-        pr = getBounds();
+        room.querySolids(x, Math.min(oldY, y), width, Math.abs(y - oldY) + height, nearby);
         onGround = false;
-        for (Rectangle r : platforms) {
-            if (pr.intersects(r)) {
+        for (int i = 0; i < nearby.size(); i++) {
+            int s = nearby.get(i);
+            if (solids.intersects(s, x, y, width, height)) {
+                int ry = solids.y(s);
                 // si venimos desde arriba (caída)
-                if (velY > 0 && (y + height - velY) <= r.y + 1) {
-                    y = r.y - height;
+                if (velY > 0 && (y + height - velY) <= ry + 1) {
+                    y = ry - height;
                     velY = 0;
                     onGround = true;
-                    lastGroundedTime = System.currentTimeMillis();
+                    lastGroundedTick = now;
                     canDoubleJump = false;
                     doubleJumpUsed = false;
-                } else if (velY < 0 && (y - velY) >= (r.y + r.height - 1)) {
+                } else if (velY < 0 && (y - velY) >= (ry + solids.height(s) - 1)) {
                     // golpe techo
-                    y = r.y + r.height;
+                    y = ry + solids.height(s);
                     velY = 0;
                 } else {
                     // fallback: empujar abajo
                     if (velY > 0) {
-                        y = r.y - height;
+                        y = ry - height;
                         velY = 0;
                         onGround = true;
-                        lastGroundedTime = System.currentTimeMillis();
+                        lastGroundedTick = now;
                     }
                 }
-                pr = getBounds();
             }
         }
 
-        // animacion
-        if (idleFrames != null && System.currentTimeMillis() - lastFrameTime > frameDelay) {
-            currentFrame = (currentFrame + 1) % idleFrames.length;
-            lastFrameTime = System.currentTimeMillis();
-        }
-
         // terminar ataque
-        if (attacking && System.currentTimeMillis() - attackStart > attackDuration) attacking = false;
+        if (attacking && now - attackStartTick > attackDurationTicks) attacking = false;
     }
 
     public void draw(Graphics g, int cameraX, int cameraY) {
+        draw(g, cameraX, cameraY, 1.0);
+    }
+
+    public void draw(Graphics g, int cameraX, int cameraY, double alpha) {
+        drawAt(g, getRenderX(alpha) - cameraX, getRenderY(alpha) - cameraY, getAnimationFrame(), attacking);
+    }
+
+    /**
+     * Dibuja en la posición de pantalla dada con el estado indicado, sin leer el
+     * estado de simulación (para dibujar desde un {@link RenderSnapshot}).
+     */
+    public void drawAt(Graphics g, int sx, int sy, int animationFrame, boolean attacking) {
         Graphics2D g2 = (Graphics2D) g;
-        int sx = x - cameraX;
-        int sy = y - cameraY;
 
-        if (idleFrames != null) {
-            g2.drawImage(idleFrames[currentFrame], sx, sy, width, height, null);
+        if (idle != null) {
+            // el frame sale del reloj de juego: no hay estado de animación que actualizar
+            idle.frame(animationFrame).draw(g2, sx, sy);
         } else {
             g2.setColor(Color.CYAN);
             g2.fillRect(sx, sy, width, height);
@@ -202,9 +224,11 @@ public class Player {
     public void addHealth(int a) { health = Math.min(maxHealth, health + a); }
     public void takeDamage(int dmg) { health = Math.max(0, health - dmg); }
 
-    public Rectangle getAttackBox() {
-        if (!attacking) return null;
-        return new Rectangle(x + width, y + height/4, 20, height/2);
+    /** Escribe la caja de ataque en out (reutilizable); false si no está atacando. */
+    public boolean getAttackBox(Rectangle out) {
+        if (!attacking) return false;
+        out.setBounds(x + width, y + height/4, 20, height/2);
+        return true;
     }
     public void knockBack(int force) {
         velX = force;
@@ -0,0 +1,107 @@
+package game;
+
+import java.awt.*;
+import java.awt.image.VolatileImage;
+
+/**
+ * Resolución interna fija: la escena se dibuja en un VolatileImage pequeño
+ * (por ejemplo 640x360) y se amplía a la ventana por un factor entero con
+ * vecino más próximo, centrada y con bandas negras si no encaja exacto.
+ * Así el coste de relleno no crece con el tamaño de la pantalla.
+ * Si la ventana es más pequeña que la resolución interna, se reduce con
+ * filtrado bilineal hasta que quepa entera, en vez de recortar los bordes.
+ */
+public class RenderScaler {
+
+    /** Resoluciones internas disponibles; null = nativa (sin escalar). */
+    public static final Dimension[] PRESETS = {null, new Dimension(960, 540), new Dimension(640, 360)};
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final int width;
+    private final int height;
+    private final String label;
+    private VolatileImage buffer;
+
+    public RenderScaler(Dimension size) {
+        this.width = size.width;
+        this.height = size.height;
+        this.label = label(size);
+    }
+
+    /** Nombre para menús y perfiles: "nativa" o "640x360". */
+    public static String label(Dimension size) {
+        return size == null ? "nativa" : size.width + "x" + size.height;
+    }
+
+    /** Siguiente preset tras el dado (vuelve a nativa al final). */
+    public static Dimension next(Dimension size) {
+        for (int i = 0; i < PRESETS.length; i++) {
+            boolean same = size == null ? PRESETS[i] == null : size.equals(PRESETS[i]);
+            if (same) return PRESETS[(i + 1) % PRESETS.length];
+        }
+        return PRESETS[0];
+    }
+
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+    public String getLabel() { return label; }
+    public Dimension getSize() { return new Dimension(width, height); }
+
+    /**
+     * Factor de escala para una salida de outWidth x outHeight: entero si la escena
+     * cabe al menos una vez; si no, el factor menor que 1 que la encaja entera.
+     */
+    public double scaleFor(int outWidth, int outHeight) {
+        if (outWidth <= 0 || outHeight <= 0) return 1;   // ventana aún sin tamaño
+        double fit = Math.min((double) outWidth / width, (double) outHeight / height);
+        return fit >= 1 ? Math.floor(fit) : fit;
+    }
+
+    /** Ancho en píxeles de salida que ocupa la escena escalada (sin las bandas). */
+    public int outputWidth(int outWidth, int outHeight) {
+        return (int) Math.round(width * scaleFor(outWidth, outHeight));
+    }
+
+    public int outputHeight(int outWidth, int outHeight) {
+        return (int) Math.round(height * scaleFor(outWidth, outHeight));
+    }
+
+    /** Dibuja la escena a resolución interna y la vuelca escalada y centrada en g. */
+    public void render(Graphics2D g, int outWidth, int outHeight, ActiveRenderer.Scene scene) {
+        GraphicsConfiguration gc = g.getDeviceConfiguration();
+        int w = outputWidth(outWidth, outHeight);
+        int h = outputHeight(outWidth, outHeight);
+        int dx = (outWidth - w) / 2;
+        int dy = (outHeight - h) / 2;
+        // ampliar: píxeles nítidos; reducir: bilineal para no perder líneas finas
+        Object interpolation = w < width
+                ? RenderingHints.VALUE_INTERPOLATION_BILINEAR
+                : RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR;
+
+        int attempts = 0;
+        do {
+            if (buffer == null || buffer.validate(gc) == VolatileImage.IMAGE_INCOMPATIBLE) {
+                if (buffer != null) buffer.flush();
+                buffer = gc.createCompatibleVolatileImage(width, height);
+            }
+
+            Graphics2D bg = buffer.createGraphics();
+            try {
+                scene.draw(bg, width, height);
+            } finally {
+                bg.dispose();
+            }
+            if (buffer.contentsLost()) continue;
+
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, interpolation);
+            g.drawImage(buffer, dx, dy, dx + w, dy + h, 0, 0, width, height, null);
+        } while (buffer.contentsLost() && ++attempts < MAX_ATTEMPTS);
+    }
+
+    /** Libera la memoria de vídeo del buffer. */
+    public void dispose() {
+        if (buffer != null) buffer.flush();
+        buffer = null;
+    }
+}
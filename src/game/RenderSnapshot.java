@@ -0,0 +1,44 @@
+package game;
+
+/**
+ * Lo que el dibujo necesita de un tick de simulación: sala, cámara, posiciones
+ * (la del tick anterior y la actual, para interpolar), vida y menús.
+ * El hilo de simulación lo rellena y lo publica por un {@link TripleBuffer};
+ * el EDT lo lee sin tocar el mundo, que sigue avanzando mientras tanto.
+ */
+public class RenderSnapshot {
+
+    /** Hora (System.nanoTime) que corresponde a este tick; el dibujo interpola a partir de ella. */
+    public long tickNanos;
+    public Room room;
+    // sala abandonada: el EDT la libera en cuanto dibuja una instantánea que ya no es de ella
+    public Room retiredRoom;
+
+    public int prevCameraX, prevCameraY;
+    public int cameraX, cameraY;
+
+    public int prevPlayerX, prevPlayerY;
+    public int playerX, playerY;
+    public int playerFrame;
+    public boolean playerAttacking;
+    public int health, maxHealth;
+
+    // el enemigo solo se usa para dibujarlo en la posición copiada aquí
+    public EnemyMelee enemy;
+    public boolean enemyAlive;
+    public int prevEnemyX, enemyX, enemyY;
+
+    // menú de inventario tal como quedó en el tick: el EDT no lee el menú, solo esto
+    public boolean inventoryVisible;
+    public int inventoryTab;
+    public boolean inventoryOnTabs;
+    public int inventorySelected;
+    public int inventoryScroll;
+    public int inventorySize;
+    public int passiveSelected;
+
+    /** Interpolación entre el tick anterior (alpha 0) y el actual (alpha 1). */
+    public static int lerp(int from, int to, double alpha) {
+        return (int) Math.round(from + (to - from) * alpha);
+    }
+}
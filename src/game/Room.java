@@ -1,25 +1,55 @@
 package game;
 
 import java.awt.*;
-import java.util.List;
 
 public abstract class Room {
     protected int width;
     protected int height;
-    protected List<Rectangle> platforms;
+    // sólidos de la sala: se construyen una vez y se comparten sin copiar
+    protected StaticGeometry platforms = StaticGeometry.empty();
     protected Rectangle exitDoor;
 
     // ahora la sala recibe cameraX y cameraY para dibujar correctamente
-    public abstract void draw(Graphics g, int cameraX, int cameraY);
+    public void draw(Graphics g, int cameraX, int cameraY) {
+        draw(g, cameraX, cameraY, width, height);
+    }
+
+    /**
+     * Dibuja solo lo que cae dentro de la zona visible del mundo:
+     * (cameraX, cameraY) a (cameraX + viewWidth, cameraY + viewHeight), en unidades de mundo.
+     */
+    public abstract void draw(Graphics g, int cameraX, int cameraY, int viewWidth, int viewHeight);
 
-    public List<Rectangle> getPlatforms() {
+    public StaticGeometry getPlatforms() {
         return platforms;
     }
 
+    /**
+     * Índices (en getPlatforms()) de los sólidos que se solapan con el área dada,
+     * escritos en out en orden ascendente. Devuelve cuántos hay.
+     */
+    public int querySolids(int x, int y, int w, int h, IndexBuffer out) {
+        return platforms.query(x, y, w, h, out);
+    }
+
     public Rectangle getExitDoor() {
         return exitDoor;
     }
 
+    /** Libera recursos de dibujo al abandonar la sala. */
+    public void dispose() {
+    }
+
     public int getWidth() { return width; }
     public int getHeight() { return height; }
+
+    /** Rellena solo la parte del rectángulo (en mundo) que cae dentro de la vista. */
+    protected static void fillVisible(Graphics g, int x, int y, int w, int h,
+                                      int cameraX, int cameraY, int viewWidth, int viewHeight) {
+        int x0 = Math.max(x, cameraX);
+        int y0 = Math.max(y, cameraY);
+        int x1 = Math.min(x + w, cameraX + viewWidth);
+        int y1 = Math.min(y + h, cameraY + viewHeight);
+        if (x1 > x0 && y1 > y0) g.fillRect(x0 - cameraX, y0 - cameraY, x1 - x0, y1 - y0);
+    }
 }
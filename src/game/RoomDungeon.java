@@ -16,14 +16,18 @@ public class RoomDungeon extends Room {
     private static final int MIN_CELL_H = 800;
     private static final int MAX_CELL_H = 1400;
     private static final double ASPECT_LIMIT = 2.2;
-    private static final int SEPARATION_ITER = 600;
+    private static final int SEPARATION_ITER = 600;       // máximo; para antes si una pasada no mueve nada
+    private static final int SEPARATION_GRID = 2048;      // >= celda más grande: cada una toca 4 casillas como mucho
     private static final int ROOM_MIN_W = 900;
     private static final int ROOM_MIN_H = 700;
     private static final int K_NEIGHBORS = 3;
     private static final double LOOP_RATIO = 0.15;
     private static final int CORRIDOR_THICKNESS = 120;    // pasillos anchos
-    private static final int WALL_THICKNESS = 60;         // paredes gruesas
-    private static final int SEGMENT = 80;                // segmentación para carving
+    static final int WALL_THICKNESS = 60;                 // paredes gruesas
+    static final int SEGMENT = 80;                        // segmentación para carving
+
+    private final int numCells;
+    private final GenerationStats stats = new GenerationStats();
 
     private final List<Rectangle> cellRects = new ArrayList<>();
     private final List<Rectangle> roomFloors = new ArrayList<>();
@@ -32,42 +36,48 @@ public class RoomDungeon extends Room {
     private final List<Rectangle> corridors = new ArrayList<>();
     private final List<Rectangle> walls = new ArrayList<>();
 
+    // capas de dibujo con índice espacial (las paredes son platforms)
+    private StaticGeometry floorGeometry;
+    private StaticGeometry corridorGeometry;
+
+    // fondo, suelos y paredes no cambian: se pintan una vez por trozos y luego se copian
+    private ChunkCache chunks;
+
     public RoomDungeon() {
-        generate();
+        this(new Random(), NUM_CELLS);
     }
-    private void generate() {
-        Random rng = new Random();
-        // 1-2. Generar celdas con tamaño sesgado (más pequeñas que grandes)
-        for (int i = 0; i < NUM_CELLS; i++) {
-            int cx = MAP_WIDTH / 2 + (int)((rng.nextDouble() - 0.5) * 2 * MAX_RADIUS);
-            int cy = MAP_HEIGHT / 2 + (int)((rng.nextDouble() - 0.5) * 2 * MAX_RADIUS);
 
-            int w = skewed(rng, MIN_CELL_W, MAX_CELL_W);
-            int h = skewed(rng, MIN_CELL_H, MAX_CELL_H);
+    // misma semilla = misma mazmorra (benchmarks y pruebas)
+    public RoomDungeon(long seed) {
+        this(new Random(seed), NUM_CELLS);
+    }
 
-            // limitar aspecto
-            double aspect = Math.max((double)w / h, (double)h / w);
-            if (aspect > ASPECT_LIMIT) {
-                if (w > h) w = (int)(h * ASPECT_LIMIT);
-                else       h = (int)(w * ASPECT_LIMIT);
-            }
-            cellRects.add(new Rectangle(cx - w / 2, cy - h / 2, w, h));
-        }
-
-        // 3. Separación simple para evitar solapes (relajación)
-        for (int it = 0; it < SEPARATION_ITER; it++) {
-            for (int a = 0; a < cellRects.size(); a++) {
-                Rectangle A = cellRects.get(a);
-                for (int b = a + 1; b < cellRects.size(); b++) {
-                    Rectangle B = cellRects.get(b);
-                    if (A.intersects(B)) {
-                        Point push = resolveOverlap(A, B);
-                        A.translate(-push.x, -push.y);
-                        B.translate(push.x, push.y);
-                    }
-                }
-            }
+    // mazmorras más grandes para medir cómo escala
+    public RoomDungeon(long seed, int numCells) {
+        this(new Random(seed), numCells);
+    }
+
+    private RoomDungeon(Random rng, int numCells) {
+        this.numCells = numCells;
+        generate(rng);
+    }
+    private void generate(Random rng) {
+        // 1-2. Generar celdas con tamaño sesgado (más pequeñas que grandes)
+        cellRects.addAll(scatterCells(rng, numCells));
+        stats.cells = numCells;
+
+        // 3. Separación para evitar solapes: relajación con las celdas de siempre,
+        //    una casilla por celda en las grandes (la relajación no converge a tiempo)
+        long t = System.nanoTime();
+        if (numCells <= NUM_CELLS) {
+            stats.separationIterations = separate(cellRects, SEPARATION_ITER);
+            stats.separationConverged = stats.separationIterations < SEPARATION_ITER;
+        } else {
+            placeOnGrid(cellRects);
+            stats.separationIterations = 1;
+            stats.separationConverged = true;
         }
+        stats.separationNanos = System.nanoTime() - t;
 
         // 4-5. Selección de habitaciones por umbral
         for (Rectangle r : cellRects) {
@@ -77,25 +87,23 @@ public class RoomDungeon extends Room {
         }
         if (roomFloors.isEmpty()) {
             // fallback mínimo
-            roomFloors.add(cellRects.get(NUM_CELLS / 2));
+            roomFloors.add(cellRects.get(numCells / 2));
         }
 
         // 6. Grafo aproximado: k vecinos por centro
         List<Point> centers = new ArrayList<>();
         for (Rectangle r : roomFloors) centers.add(centerOf(r));
+        t = System.nanoTime();
         edgesAll.addAll(kNearestGraph(centers, K_NEIGHBORS));
+        stats.rooms = roomFloors.size();
+        stats.graphEdges = edgesAll.size();
+        stats.graphNanos = System.nanoTime() - t;
 
-        // 7. MST con Prim
-        edgesFinal.addAll(minimumSpanningTree(centers, edgesAll));
-
-        // 8. Añadir bucles (15% aristas restantes)
-        List<Edge> remaining = new ArrayList<>(edgesAll);
-        remaining.removeAll(edgesFinal);
-        Collections.shuffle(remaining, rng);
-        int addCount = (int)(remaining.size() * LOOP_RATIO);
-        for (int i = 0; i < addCount && i < remaining.size(); i++) {
-            edgesFinal.add(remaining.get(i));
-        }
+        // 7-8. MST y bucles (15% de las aristas restantes)
+        t = System.nanoTime();
+        edgesFinal.addAll(connect(edgesAll, centers.size(), rng));
+        stats.corridorEdges = edgesFinal.size();
+        stats.mstNanos = System.nanoTime() - t;
 
         // 9. Corredores en L y paredes negras
         for (Edge e : edgesFinal) {
@@ -110,18 +118,26 @@ public class RoomDungeon extends Room {
 
             // añadir paredes negras alrededor del pasillo
             for (Rectangle corridor : candidate) {
-                walls.add(new Rectangle(corridor.x, corridor.y - WALL_THICKNESS, corridor.width, WALL_THICKNESS)); // arriba
-                walls.add(new Rectangle(corridor.x, corridor.y + corridor.height, corridor.width, WALL_THICKNESS)); // abajo
-                walls.add(new Rectangle(corridor.x - WALL_THICKNESS, corridor.y, WALL_THICKNESS, corridor.height)); // izquierda
-                walls.add(new Rectangle(corridor.x + corridor.width, corridor.y, WALL_THICKNESS, corridor.height)); // derecha
+                addCorridorWalls(corridor, WALL_THICKNESS, walls);
             }
         }
         // Construir paredes alrededor de cada habitación, segmentadas
         for (Rectangle r : roomFloors) {
-            addRoomWallsSegmented(r, WALL_THICKNESS, SEGMENT);
+            addRoomWallsSegmented(r, WALL_THICKNESS, SEGMENT, walls);
         }
-        // Carvar huecos de corredores en las paredes
-        carveCorridorOpenings(corridors);
+        // Carvar huecos de corredores en las paredes (los pasillos ya indexados)
+        corridorGeometry = new StaticGeometry(corridors);
+        stats.wallSegments = walls.size();
+        t = System.nanoTime();
+        List<Rectangle> kept = carveOpenings(walls, corridorGeometry);
+        stats.carveNanos = System.nanoTime() - t;
+        // Unir los trozos que sobrevivieron: misma superficie sólida con menos rectángulos
+        stats.carvedWalls = kept.size();
+        t = System.nanoTime();
+        walls.clear();
+        walls.addAll(mergeWalls(kept));
+        stats.mergedWalls = walls.size();
+        stats.mergeNanos = System.nanoTime() - t;
         // Dimensiones del mundo y salida
         width = MAP_WIDTH;
         height = MAP_HEIGHT;
@@ -132,57 +148,234 @@ public class RoomDungeon extends Room {
         exitDoor = new Rectangle(biggest.x + biggest.width - 120,
                 biggest.y + biggest.height / 2 - 50, 80, 100);
 
-        // platforms = paredes sólidas para colisión
-        platforms = new ArrayList<>(walls);
+        // platforms = paredes sólidas para colisión; suelos y pasillos indexados para dibujar
+        platforms = new StaticGeometry(walls);
+        floorGeometry = new StaticGeometry(roomFloors);
+        chunks = new ChunkCache(this::paintStatic, staticBounds());
     }
     @Override
-    public void draw(Graphics g, int cameraX, int cameraY) {
-        // fondo
+    public void draw(Graphics g, int cameraX, int cameraY, int viewWidth, int viewHeight) {
+        // fondo, suelos y paredes desde la caché de trozos
+        chunks.draw((Graphics2D) g, cameraX, cameraY, viewWidth, viewHeight);
+
+        // puerta salida
+        if (exitDoor != null && Aabb.overlaps(exitDoor, cameraX, cameraY, viewWidth, viewHeight)) {
+            g.setColor(Color.MAGENTA);
+            g.fillRect(exitDoor.x - cameraX, exitDoor.y - cameraY, exitDoor.width, exitDoor.height);
+        }
+    }
+
+    @Override
+    public void dispose() {
+        chunks.dispose();
+    }
+
+    // pinta la parte estática del área dada; lo llama ChunkCache, quizá desde su hilo de precarga
+    private void paintStatic(Graphics2D g, int areaX, int areaY, int areaW, int areaH, IndexBuffer scratch) {
+        // fondo (solo la parte del mapa que cae en el área)
         g.setColor(new Color(30, 30, 30));
-        g.fillRect(0 - cameraX, 0 - cameraY, width, height);
+        fillVisible(g, 0, 0, width, height, areaX, areaY, areaW, areaH);
 
         // habitaciones (suelo)
         g.setColor(new Color(80, 80, 120));
-        for (Rectangle r : roomFloors) {
-            g.fillRect(r.x - cameraX, r.y - cameraY, r.width, r.height);
-        }
+        drawVisible(g, floorGeometry, areaX, areaY, areaW, areaH, scratch);
 
         // corredores (suelo)
         g.setColor(new Color(100, 100, 100));
-        for (Rectangle c : corridors) {
-            g.fillRect(c.x - cameraX, c.y - cameraY, c.width, c.height);
-        }
+        drawVisible(g, corridorGeometry, areaX, areaY, areaW, areaH, scratch);
 
         // paredes
         g.setColor(Color.BLACK);
-        for (Rectangle w : walls) {
-            g.fillRect(w.x - cameraX, w.y - cameraY, w.width, w.height);
-        }
+        drawVisible(g, platforms, areaX, areaY, areaW, areaH, scratch);
+    }
 
-        // puerta salida
-        if (exitDoor != null) {
-            g.setColor(Color.MAGENTA);
-            g.fillRect(exitDoor.x - cameraX, exitDoor.y - cameraY, exitDoor.width, exitDoor.height);
+    // consulta el índice espacial de la capa y dibuja solo lo visible
+    private static void drawVisible(Graphics g, StaticGeometry layer, int cameraX, int cameraY,
+                                    int viewWidth, int viewHeight, IndexBuffer visible) {
+        layer.query(cameraX, cameraY, viewWidth, viewHeight, visible);
+        for (int k = 0; k < visible.size(); k++) {
+            int i = visible.get(k);
+            g.fillRect(layer.x(i) - cameraX, layer.y(i) - cameraY, layer.width(i), layer.height(i));
         }
     }
-    @Override
-    public List<Rectangle> getPlatforms() {
-        return new ArrayList<>(platforms);
+
+    // el mapa más lo que la separación haya empujado fuera de él
+    private Rectangle staticBounds() {
+        Rectangle bounds = new Rectangle(0, 0, width, height);
+        for (Rectangle r : roomFloors) bounds.add(r);
+        for (Rectangle r : corridors) bounds.add(r);
+        for (Rectangle r : walls) bounds.add(r);
+        return bounds;
     }
     @Override
     public Rectangle getExitDoor() {
         return exitDoor;
     }
+    /** Suelos de las habitaciones (sin pasillos). */
+    StaticGeometry getFloors() {
+        return floorGeometry;
+    }
+    /** Pasillos ya indexados (los mismos que abren los huecos en las paredes). */
+    StaticGeometry getCorridors() {
+        return corridorGeometry;
+    }
+    /** Cifras de la generación (pasadas de separación...). */
+    public GenerationStats getStats() {
+        return stats;
+    }
+
     // ---------- Helpers de generación ----------
-    private int skewed(Random rng, int min, int max) {
+    // celdas alrededor del centro del mapa, con tamaño sesgado (más pequeñas que grandes)
+    static List<Rectangle> scatterCells(Random rng, int count) {
+        List<Rectangle> cells = new ArrayList<>(count);
+        double radius = scatterRadius(count);
+        for (int i = 0; i < count; i++) {
+            int cx = MAP_WIDTH / 2 + (int)((rng.nextDouble() - 0.5) * 2 * radius);
+            int cy = MAP_HEIGHT / 2 + (int)((rng.nextDouble() - 0.5) * 2 * radius);
+
+            int w = skewed(rng, MIN_CELL_W, MAX_CELL_W);
+            int h = skewed(rng, MIN_CELL_H, MAX_CELL_H);
+
+            // limitar aspecto
+            double aspect = Math.max((double)w / h, (double)h / w);
+            if (aspect > ASPECT_LIMIT) {
+                if (w > h) w = (int)(h * ASPECT_LIMIT);
+                else       h = (int)(w * ASPECT_LIMIT);
+            }
+            cells.add(new Rectangle(cx - w / 2, cy - h / 2, w, h));
+        }
+        return cells;
+    }
+
+    /**
+     * Separa las celdas solapadas empujando cada par por la mitad del solape, en
+     * pasadas sobre los pares (a, b > a) en orden, hasta que una pasada no mueve
+     * nada o se llega a maxIterations. Devuelve las pasadas hechas.
+     * Los pares solapados salen de una rejilla en vez de probar todos contra todos,
+     * pero se visitan en el mismo orden y con las posiciones de ese momento: el
+     * resultado es idéntico al del doble bucle, y parar cuando nada se mueve
+     * tampoco lo cambia (las pasadas siguientes serían iguales).
+     */
+    static int separate(List<Rectangle> cells, int maxIterations) {
+        SeparationGrid grid = new SeparationGrid(cells, SEPARATION_GRID);
+        for (int it = 0; it < maxIterations; it++) {
+            boolean moved = false;
+            for (int a = 0; a < cells.size(); a++) {
+                Rectangle A = cells.get(a);
+                for (int b = grid.nextOverlap(a, a); b >= 0; b = grid.nextOverlap(a, b)) {
+                    Rectangle B = cells.get(b);
+                    Point push = resolveOverlap(A, B);
+                    if (push.x == 0 && push.y == 0) continue;
+                    A.translate(-push.x, -push.y);
+                    B.translate(push.x, push.y);
+                    grid.moved(a);
+                    grid.moved(b);
+                    moved = true;
+                }
+            }
+            if (!moved) return it + 1;
+        }
+        return maxIterations;
+    }
+
+    /**
+     * Separación en una sola pasada para mazmorras grandes: cada celda se queda en una
+     * casilla propia de una rejilla con casillas tan grandes como la celda mayor, así
+     * que no puede solaparse con ninguna otra. Las celdas van de la más cercana al
+     * centro a la más lejana; cada una toma la casilla libre más próxima a su centro
+     * (buscando en anillos alrededor de la suya) y dentro de ella se coloca lo más
+     * cerca posible de donde cayó. No repite pasadas ni depende de cuánto se solapen.
+     */
+    static void placeOnGrid(List<Rectangle> cells) {
+        int n = cells.size();
+        if (n == 0) return;
+        int slotW = 1, slotH = 1;
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
+        for (Rectangle r : cells) {
+            slotW = Math.max(slotW, r.width);
+            slotH = Math.max(slotH, r.height);
+            minX = Math.min(minX, r.x + r.width / 2);
+            minY = Math.min(minY, r.y + r.height / 2);
+            maxX = Math.max(maxX, r.x + r.width / 2);
+            maxY = Math.max(maxY, r.y + r.height / 2);
+        }
+        // n celdas nunca necesitan un anillo más ancho que sqrt(n) casillas: con ese margen
+        // alrededor de los centros la búsqueda no se sale de la rejilla
+        int margin = (int) Math.ceil(Math.sqrt(n)) + 1;
+        int originX = minX - margin * slotW;
+        int originY = minY - margin * slotH;
+        int cols = (maxX - minX) / slotW + 2 * margin + 1;
+        int rows = (maxY - minY) / slotH + 2 * margin + 1;
+        boolean[] taken = new boolean[cols * rows];
+        int centerX = minX + (maxX - minX) / 2;
+        int centerY = minY + (maxY - minY) / 2;
+
+        long[] dist = new long[n];
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            Rectangle r = cells.get(i);
+            long dx = r.x + r.width / 2 - centerX;
+            long dy = r.y + r.height / 2 - centerY;
+            dist[i] = dx * dx + dy * dy;
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.<Integer>comparingLong(i -> dist[i]).thenComparingInt(i -> i));
+
+        for (int i : order) {
+            Rectangle r = cells.get(i);
+            int cx = r.x + r.width / 2;
+            int cy = r.y + r.height / 2;
+            int col = (cx - originX) / slotW;
+            int row = (cy - originY) / slotH;
+
+            // primer anillo con alguna casilla libre; de él, la más cercana al centro de la celda
+            int best = -1;
+            long bestDist = Long.MAX_VALUE;
+            for (int ring = 0; best < 0; ring++) {
+                for (int k = -ring; k <= ring; k++) {
+                    // lados de arriba y abajo enteros; izquierdo y derecho sin las esquinas
+                    for (int side = 0; side < 4; side++) {
+                        if (side >= 2 && (k == -ring || k == ring)) continue;
+                        int c = side < 2 ? col + k : col + (side == 2 ? -ring : ring);
+                        int rr = side < 2 ? row + (side == 0 ? -ring : ring) : row + k;
+                        int slot = rr * cols + c;
+                        if (taken[slot]) continue;
+                        long ex = (long) originX + (long) c * slotW + slotW / 2 - cx;
+                        long ey = (long) originY + (long) rr * slotH + slotH / 2 - cy;
+                        long d = ex * ex + ey * ey;
+                        if (d < bestDist) {
+                            bestDist = d;
+                            best = slot;
+                        }
+                        if (ring == 0) break;   // el anillo 0 es una sola casilla
+                    }
+                }
+            }
+            taken[best] = true;
+
+            int slotX = originX + (best % cols) * slotW;
+            int slotY = originY + (best / cols) * slotH;
+            r.x = Math.max(slotX, Math.min(slotX + slotW - r.width, cx - r.width / 2));
+            r.y = Math.max(slotY, Math.min(slotY + slotH - r.height, cy - r.height / 2));
+        }
+    }
+
+    // con más celdas que NUM_CELLS se dispersan en más área, con la misma densidad inicial
+    // (todas en el mismo radio se amontonan tanto que la separación no llega a deshacerlo)
+    static double scatterRadius(int count) {
+        return count <= NUM_CELLS ? MAX_RADIUS : MAX_RADIUS * Math.sqrt((double) count / NUM_CELLS);
+    }
+
+    private static int skewed(Random rng, int min, int max) {
         // sesgo hacia valores pequeños: promedio de varios randoms
         double t = (rng.nextDouble() + rng.nextDouble() + rng.nextDouble()) / 3.0;
         return min + (int)(t * (max - min));
     }
-    private Point centerOf(Rectangle r) {
+    private static Point centerOf(Rectangle r) {
         return new Point(r.x + r.width / 2, r.y + r.height / 2);
     }
-    private Point resolveOverlap(Rectangle A, Rectangle B) {
+    private static Point resolveOverlap(Rectangle A, Rectangle B) {
         int ax = A.x + A.width / 2;
         int ay = A.y + A.height / 2;
         int bx = B.x + B.width / 2;
@@ -206,48 +399,189 @@ public class RoomDungeon extends Room {
         }
         return new Point(0, 0);
     }
-    private List<Edge> kNearestGraph(List<Point> pts, int k) {
-        List<Edge> edges = new ArrayList<>();
-        for (int i = 0; i < pts.size(); i++) {
-            Point a = pts.get(i);
-            // ordenar vecinos por distancia
-            List<Integer> idx = new ArrayList<>();
-            for (int j = 0; j < pts.size(); j++) if (j != i) idx.add(j);
-            idx.sort(Comparator.comparingDouble(j -> dist(a, pts.get(j))));
-            for (int t = 0; t < Math.min(k, idx.size()); t++) {
-                int j = idx.get(t);
-                Edge e = new Edge(i, j, dist(a, pts.get(j)));
-                if (!edges.contains(e)) edges.add(e);
+    /**
+     * Aristas de cada centro a sus k vecinos más próximos (empates por índice menor),
+     * en orden de centro y de cercanía, sin repetir pares. Los vecinos salen de un
+     * árbol k-d; un par (j, i) con j < i ya está si i es vecino de j, así que basta
+     * con mirar los k vecinos guardados de j.
+     */
+    static List<Edge> kNearestGraph(List<Point> pts, int k) {
+        int n = pts.size();
+        int[] xs = new int[n];
+        int[] ys = new int[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = pts.get(i).x;
+            ys[i] = pts.get(i).y;
+        }
+        KdTree tree = new KdTree(xs, ys, n);
+        int kk = Math.min(k, Math.max(0, n - 1));
+        int[] neighbors = new int[n * kk];
+        IndexBuffer found = new IndexBuffer(Math.max(1, kk));
+
+        List<Edge> edges = new ArrayList<>(n * kk);
+        for (int i = 0; i < n; i++) {
+            tree.nearest(xs[i], ys[i], kk, i, found);
+            for (int t = 0; t < kk; t++) {
+                int j = found.get(t);
+                neighbors[i * kk + t] = j;
+                if (j < i && contains(neighbors, j * kk, kk, i)) continue;
+                edges.add(new Edge(i, j, dist(pts.get(i), pts.get(j))));
             }
         }
         return edges;
     }
-    private double dist(Point a, Point b) {
-        int dx = a.x - b.x, dy = a.y - b.y;
-        return Math.sqrt(dx * dx + dy * dy);
-    }
-    private List<Edge> minimumSpanningTree(List<Point> pts, List<Edge> edges) {
-        List<Edge> mst = new ArrayList<>();
-        Set<Integer> inTree = new HashSet<>();
-        inTree.add(0);
-        while (inTree.size() < pts.size()) {
-            Edge best = null;
-            double bestW = Double.MAX_VALUE;
-            for (Edge e : edges) {
-                boolean aIn = inTree.contains(e.a);
-                boolean bIn = inTree.contains(e.b);
-                if (aIn ^ bIn) { // conecta árbol con un nuevo nodo
-                    if (e.w < bestW) { bestW = e.w; best = e; }
-                }
+    private static boolean contains(int[] values, int from, int count, int value) {
+        for (int t = from; t < from + count; t++) if (values[t] == value) return true;
+        return false;
+    }
+    private static double dist(Point a, Point b) {
+        return Math.sqrt(KdTree.distanceSq(a.x, a.y, b.x, b.y));
+    }
+    /**
+     * Aristas que se convierten en pasillos: el árbol de expansión mínima y, de las que
+     * sobran, una fracción LOOP_RATIO barajada con rng. Primero las del árbol en el orden
+     * en que Prim las añadiría desde el nodo 0, luego los bucles.
+     */
+    static List<Edge> connect(List<Edge> edges, int nodeCount, Random rng) {
+        int[] tree = minimumSpanningTree(edges, nodeCount);
+        List<Edge> out = new ArrayList<>(tree.length + edges.size() / 4);
+        boolean[] used = new boolean[edges.size()];
+        for (int e : tree) {
+            out.add(edges.get(e));
+            used[e] = true;
+        }
+
+        // restantes en el orden del grafo, barajadas igual que Collections.shuffle
+        int[] remaining = new int[edges.size() - tree.length];
+        int n = 0;
+        for (int e = 0; e < edges.size(); e++) if (!used[e]) remaining[n++] = e;
+        for (int i = n; i > 1; i--) {
+            int j = rng.nextInt(i);
+            int tmp = remaining[i - 1];
+            remaining[i - 1] = remaining[j];
+            remaining[j] = tmp;
+        }
+        int addCount = (int) (n * LOOP_RATIO);
+        for (int i = 0; i < addCount; i++) out.add(edges.get(remaining[i]));
+        return out;
+    }
+    /**
+     * Índices de las aristas del árbol de expansión mínima que contiene al nodo 0
+     * (si el grafo no es conexo, solo su componente), en el orden en que las elegiría
+     * Prim desde 0 tomando, a igual peso, la primera de la lista.
+     *
+     * Con el orden total (peso, índice) el árbol es único: Kruskal lo encuentra con
+     * union-find y luego se recorre desde 0 con un montículo de posiciones en ese orden,
+     * que elige lo mismo que Prim mirando todas las aristas.
+     */
+    static int[] minimumSpanningTree(List<Edge> edges, int nodeCount) {
+        int m = edges.size();
+        int[] ea = new int[m], eb = new int[m];
+        double[] w = new double[m];
+        for (int e = 0; e < m; e++) {
+            Edge edge = edges.get(e);
+            ea[e] = edge.a;
+            eb[e] = edge.b;
+            w[e] = edge.w;
+        }
+        int[] sorted = sortByWeight(w);
+
+        // Kruskal: posiciones (en sorted) de las aristas aceptadas
+        UnionFind sets = new UnionFind(nodeCount);
+        int[] accepted = new int[Math.max(0, nodeCount - 1)];
+        int count = 0;
+        for (int r = 0; r < m && count < accepted.length; r++) {
+            int e = sorted[r];
+            if (sets.union(ea[e], eb[e])) accepted[count++] = r;
+        }
+
+        // adyacencia del bosque: para cada nodo, las posiciones de sus aristas
+        int[] start = new int[nodeCount + 1];
+        for (int i = 0; i < count; i++) {
+            int e = sorted[accepted[i]];
+            start[ea[e] + 1]++;
+            start[eb[e] + 1]++;
+        }
+        for (int v = 0; v < nodeCount; v++) start[v + 1] += start[v];
+        int[] fill = Arrays.copyOf(start, nodeCount);
+        int[] adjacent = new int[2 * count];
+        for (int i = 0; i < count; i++) {
+            int r = accepted[i];
+            int e = sorted[r];
+            adjacent[fill[ea[e]]++] = r;
+            adjacent[fill[eb[e]]++] = r;
+        }
+
+        // Prim sobre el bosque desde 0: en un bosque cada arista del borde lleva a un nodo nuevo
+        int[] order = new int[count];
+        if (nodeCount == 0) return order;
+        int[] heap = new int[count];
+        int heapSize = 0;
+        boolean[] inTree = new boolean[nodeCount];
+        int added = 0;
+        int v = 0;
+        while (true) {
+            inTree[v] = true;
+            for (int k = start[v]; k < start[v + 1]; k++) {
+                int r = adjacent[k];
+                int e = sorted[r];
+                if (!inTree[ea[e]] || !inTree[eb[e]]) heapSize = heapPush(heap, heapSize, r);
             }
-            if (best == null) break; // desconectado (raro), salir
-            mst.add(best);
-            inTree.add(best.a);
-            inTree.add(best.b);
+            if (heapSize == 0) break;
+            int r = heap[0];
+            heapSize = heapPop(heap, heapSize);
+            int e = sorted[r];
+            order[added++] = e;
+            v = inTree[ea[e]] ? eb[e] : ea[e];
+        }
+        return added == count ? order : Arrays.copyOf(order, added);
+    }
+    // índices 0..n-1 ordenados por peso y, a igual peso, por índice (merge sort estable)
+    private static int[] sortByWeight(double[] w) {
+        int n = w.length;
+        int[] a = new int[n], b = new int[n];
+        for (int i = 0; i < n; i++) a[i] = i;
+        for (int width = 1; width < n; width *= 2) {
+            for (int lo = 0; lo < n; lo += 2 * width) {
+                int mid = Math.min(lo + width, n), hi = Math.min(lo + 2 * width, n);
+                int i = lo, j = mid, k = lo;
+                while (i < mid && j < hi) b[k++] = w[a[j]] < w[a[i]] ? a[j++] : a[i++];
+                while (i < mid) b[k++] = a[i++];
+                while (j < hi) b[k++] = a[j++];
+            }
+            int[] t = a;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+    // montículo de mínimos de enteros; devuelven el nuevo tamaño
+    private static int heapPush(int[] heap, int size, int value) {
+        int i = size;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heap[parent] <= value) break;
+            heap[i] = heap[parent];
+            i = parent;
         }
-        return mst;
+        heap[i] = value;
+        return size + 1;
     }
-    private List<Rectangle> lCorridorBetween(Rectangle A, Rectangle B, int thick) {
+    private static int heapPop(int[] heap, int size) {
+        int last = heap[--size];
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) break;
+            if (child + 1 < size && heap[child + 1] < heap[child]) child++;
+            if (last <= heap[child]) break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        if (size > 0) heap[i] = last;
+        return size;
+    }
+    static List<Rectangle> lCorridorBetween(Rectangle A, Rectangle B, int thick) {
         List<Rectangle> out = new ArrayList<>();
         Point ca = centerOf(A);
         Point cb = centerOf(B);
@@ -269,11 +603,18 @@ public class RoomDungeon extends Room {
         return out;
     }
 
-    private Rectangle expand(Rectangle r, int pad) {
+    private static Rectangle expand(Rectangle r, int pad) {
         return new Rectangle(r.x - pad, r.y - pad, r.width + 2 * pad, r.height + 2 * pad);
     }
 
-    private void addRoomWallsSegmented(Rectangle r, int thick, int seg) {
+    static void addCorridorWalls(Rectangle corridor, int thick, List<Rectangle> walls) {
+        walls.add(new Rectangle(corridor.x, corridor.y - thick, corridor.width, thick)); // arriba
+        walls.add(new Rectangle(corridor.x, corridor.y + corridor.height, corridor.width, thick)); // abajo
+        walls.add(new Rectangle(corridor.x - thick, corridor.y, thick, corridor.height)); // izquierda
+        walls.add(new Rectangle(corridor.x + corridor.width, corridor.y, thick, corridor.height)); // derecha
+    }
+
+    static void addRoomWallsSegmented(Rectangle r, int thick, int seg, List<Rectangle> walls) {
         // Top
         for (int x = r.x; x < r.x + r.width; x += seg) {
             int w = Math.min(seg, r.x + r.width - x);
@@ -296,22 +637,60 @@ public class RoomDungeon extends Room {
         }
     }
 
-    private void carveCorridorOpenings(List<Rectangle> corrs) {
-        // Eliminar segmentos de pared que intersecten corredores
-        List<Rectangle> kept = new ArrayList<>();
+    /**
+     * Las paredes que no tocan ningún pasillo, en el mismo orden. Cada pared solo se
+     * compara con los pasillos de su zona del índice, no con todos.
+     */
+    static List<Rectangle> carveOpenings(List<Rectangle> walls, StaticGeometry corridors) {
+        List<Rectangle> kept = new ArrayList<>(walls.size());
+        IndexBuffer hits = new IndexBuffer(8);
         for (Rectangle w : walls) {
-            boolean hit = false;
-            for (Rectangle c : corrs) {
-                if (w.intersects(c)) { hit = true; break; }
+            if (corridors.query(w.x, w.y, w.width, w.height, hits) == 0) kept.add(w);
+        }
+        return kept;
+    }
+
+    /**
+     * Une paredes alineadas que se tocan o se solapan en rectángulos más largos: primero
+     * las de la misma fila (mismos y y alto), luego las de la misma columna (mismos x y
+     * ancho), y repite mientras alguna se una. Cada unión cubre exactamente lo mismo
+     * que sus piezas, así que la superficie sólida no cambia.
+     */
+    static List<Rectangle> mergeWalls(List<Rectangle> walls) {
+        List<Rectangle> out = walls;
+        int before;
+        do {
+            before = out.size();
+            out = mergeRuns(out, true);
+            out = mergeRuns(out, false);
+        } while (out.size() < before);
+        return out;
+    }
+    // horizontal: agrupa por (y, alto) y une tramos en x; vertical: por (x, ancho) y tramos en y
+    private static List<Rectangle> mergeRuns(List<Rectangle> rects, boolean horizontal) {
+        List<Rectangle> sorted = new ArrayList<>(rects);
+        if (horizontal) {
+            sorted.sort(Comparator.<Rectangle>comparingInt(r -> r.y).thenComparingInt(r -> r.height).thenComparingInt(r -> r.x));
+        } else {
+            sorted.sort(Comparator.<Rectangle>comparingInt(r -> r.x).thenComparingInt(r -> r.width).thenComparingInt(r -> r.y));
+        }
+        List<Rectangle> out = new ArrayList<>(sorted.size());
+        Rectangle run = null;
+        for (Rectangle r : sorted) {
+            if (run != null && horizontal && r.y == run.y && r.height == run.height && r.x <= run.x + run.width) {
+                run.width = Math.max(run.width, r.x + r.width - run.x);
+            } else if (run != null && !horizontal && r.x == run.x && r.width == run.width && r.y <= run.y + run.height) {
+                run.height = Math.max(run.height, r.y + r.height - run.y);
+            } else {
+                run = new Rectangle(r);
+                out.add(run);
             }
-            if (!hit) kept.add(w);
         }
-        walls.clear();
-        walls.addAll(kept);
+        return out;
     }
 
     // Arista del grafo
-    private static class Edge {
+    static class Edge {
         int a, b;
         double w;
         Edge(int a, int b, double w) {
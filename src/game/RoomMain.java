@@ -1,7 +1,7 @@
 package game;
 
 import java.awt.*;
-import java.util.ArrayList;
+import java.util.List;
 
 public class RoomMain extends Room {
 
@@ -13,27 +13,29 @@ public class RoomMain extends Room {
         width = 2000;
         height = 1000;
 
-        platforms = new ArrayList<>();
-        platforms.add(new Rectangle(offsetX + 0, offsetY + 900, width, 100)); // piso
+        platforms = new StaticGeometry(List.of(
+                new Rectangle(offsetX + 0, offsetY + 900, width, 100) // piso
+        ));
 
         exitDoor = new Rectangle(offsetX + 1800, offsetY + 800, 80, 100); // puerta mazmorra
     }
 
     @Override
-    public void draw(Graphics g, int cameraX, int cameraY) {
-        // fondo gris oscuro
+    public void draw(Graphics g, int cameraX, int cameraY, int viewWidth, int viewHeight) {
+        // fondo gris oscuro (solo la parte visible)
         g.setColor(new Color(40, 40, 40));
-        g.fillRect(offsetX - cameraX, offsetY - cameraY, width, height);
+        fillVisible(g, offsetX, offsetY, width, height, cameraX, cameraY, viewWidth, viewHeight);
 
         // piso gris medio
         g.setColor(new Color(120, 120, 120));
-        for (Rectangle p : platforms) {
-            g.fillRect(p.x - cameraX, p.y - cameraY, p.width, p.height);
+        for (int i = 0; i < platforms.size(); i++) {
+            if (!platforms.intersects(i, cameraX, cameraY, viewWidth, viewHeight)) continue;
+            g.fillRect(platforms.x(i) - cameraX, platforms.y(i) - cameraY, platforms.width(i), platforms.height(i));
         }
 
         // borde superior
         g.setColor(Color.BLACK);
-        g.fillRect(offsetX - cameraX, offsetY - cameraY, width, 30);
+        fillVisible(g, offsetX, offsetY, width, 30, cameraX, cameraY, viewWidth, viewHeight);
 
         // puerta mazmorra (temporal)
         g.setColor(Color.YELLOW);
@@ -0,0 +1,17 @@
+package game;
+
+/**
+ * Ciclo de vida de una pantalla (menú, juego, pausa) dentro de {@link ScreenManager}.
+ * Una pantalla oculta no debe gastar nada: ni timers, ni simulación, ni repintados.
+ */
+public interface Screen {
+
+    /** Se acaba de poner en la ventana: arrancar timers o simulación. */
+    void onShow();
+
+    /** Se ha quitado de la ventana pero puede volver: parar timers o simulación. */
+    void onHide();
+
+    /** No va a volver: parar todo y liberar recursos. */
+    void dispose();
+}
@@ -0,0 +1,91 @@
+package game;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * Navegación entre el menú principal, la partida y la pausa.
+ * Solo hay una pantalla visible: la anterior se oculta (onHide) antes de mostrar
+ * la siguiente (onShow). Los menús no se reutilizan y se liberan al salir; la
+ * partida se suspende en la pausa y se libera al volver al menú o empezar otra.
+ *
+ * Trabaja sobre cualquier contenedor (el content pane de la ventana o, en las
+ * pruebas de resistencia, un panel sin ventana). Solo se usa desde el EDT.
+ */
+public class ScreenManager {
+
+    private final Container root;
+    private final Runnable exit;
+    private Screen current;
+    private Game activeGame;
+
+    public ScreenManager(Container root, Runnable exit) {
+        this.root = root;
+        this.exit = exit;
+    }
+
+    // Muestra el menu principal (y libera la partida que hubiera)
+    public void showMenu() {
+        show(new StartMenuPanel(this));
+        releaseGame();
+    }
+
+    // Inicia el juego
+    public void startGame(Dimension size, boolean fullscreen, int cameraOffsetX, int cameraOffsetY) {
+        startGame(size, fullscreen, null, cameraOffsetX, cameraOffsetY);
+    }
+
+    // internalResolution: resolución a la que se dibuja el mundo antes de ampliarlo (null = nativa)
+    public void startGame(Dimension size, boolean fullscreen, Dimension internalResolution,
+                          int cameraOffsetX, int cameraOffsetY) {
+        releaseGame();
+        activeGame = new Game(this, size, fullscreen, internalResolution, cameraOffsetX, cameraOffsetY);
+        show(activeGame);
+    }
+
+    public void resumeGame(Game previousGame) {
+        show(previousGame);
+    }
+
+    // Muestra el menu de pausa (la partida queda suspendida)
+    public void showPause(Game currentGame) {
+        show(new PauseMenuPanel(this, currentGame));
+    }
+
+    // Cierra el juego
+    public void exitGame() {
+        exit.run();
+    }
+
+    public Screen getCurrent() {
+        return current;
+    }
+
+    public Game getActiveGame() {
+        return activeGame;
+    }
+
+    private <T extends JComponent & Screen> void show(T next) {
+        if (current != null && current != next) {
+            // la partida puede volver desde la pausa; los menús no
+            if (current == activeGame) current.onHide();
+            else current.dispose();
+        }
+        root.removeAll();
+        root.add(next);
+        root.revalidate();
+        root.repaint();
+
+        current = next;
+        next.onShow();
+        // <-- Esto asegura que el panel reciba las teclas
+        next.requestFocusInWindow();
+    }
+
+    private void releaseGame() {
+        if (activeGame == null) return;
+        if (current == activeGame) current = null;
+        activeGame.dispose();
+        activeGame = null;
+    }
+}
@@ -0,0 +1,131 @@
+package game;
+
+import java.awt.*;
+import java.util.List;
+
+/**
+ * Rejilla dinámica sobre las celdas de una mazmorra mientras se separan.
+ * A diferencia de {@link SpatialHash} los rectángulos se mueven: tras cada
+ * translate se avisa con {@link #moved(int)} y solo se recoloca si cambió de casillas.
+ * Con casillas al menos tan grandes como el rectángulo mayor, cada rectángulo
+ * ocupa como mucho cuatro.
+ *
+ * La rejilla cubre de sobra la zona a la que se pueden extender las celdas; lo que
+ * se salga cae en las casillas del borde, que siguen siendo correctas (solo más llenas).
+ */
+public final class SeparationGrid {
+
+    private final List<Rectangle> rects;
+    private final int cellSize;
+    private final int originX, originY;
+    private final int cols, rows;
+    // índices de los rectángulos que tocan cada casilla (se crean al usarse)
+    private final IndexBuffer[] buckets;
+    // casillas que ocupa ahora cada rectángulo (para sacarlo al moverse)
+    private final int[] col0, row0, col1, row1;
+
+    public SeparationGrid(List<Rectangle> rects, int cellSize) {
+        this.rects = rects;
+        this.cellSize = cellSize;
+        int n = rects.size();
+
+        // caja inicial, ampliada hasta el lado de un cuadrado con el doble del área de todas
+        long area = 0;
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
+        for (Rectangle r : rects) {
+            minX = Math.min(minX, r.x);
+            minY = Math.min(minY, r.y);
+            maxX = Math.max(maxX, r.x + r.width);
+            maxY = Math.max(maxY, r.y + r.height);
+            area += (long) r.width * r.height;
+        }
+        if (n == 0) minX = minY = maxX = maxY = 0;
+        int side = (int) Math.min(Integer.MAX_VALUE / 4, Math.sqrt(2.0 * area));
+        int halfW = Math.max(maxX - minX, side) / 2 + cellSize;
+        int halfH = Math.max(maxY - minY, side) / 2 + cellSize;
+        int centerX = minX + (maxX - minX) / 2;
+        int centerY = minY + (maxY - minY) / 2;
+        originX = centerX - halfW;
+        originY = centerY - halfH;
+        cols = Math.max(1, 2 * halfW / cellSize + 1);
+        rows = Math.max(1, 2 * halfH / cellSize + 1);
+        buckets = new IndexBuffer[cols * rows];
+
+        col0 = new int[n];
+        row0 = new int[n];
+        col1 = new int[n];
+        row1 = new int[n];
+        for (int i = 0; i < n; i++) {
+            Rectangle r = rects.get(i);
+            col0[i] = colOf(r.x);
+            row0[i] = rowOf(r.y);
+            col1[i] = colOf(r.x + r.width - 1);
+            row1[i] = rowOf(r.y + r.height - 1);
+            insert(i);
+        }
+    }
+
+    /**
+     * El menor índice mayor que after cuyo rectángulo se solapa ahora con el de a
+     * (Rectangle.intersects), o -1. Recorriendo after = a, b, b'... se visitan los
+     * pares (a, b > a) en el mismo orden que un doble bucle sobre todos los índices.
+     */
+    public int nextOverlap(int a, int after) {
+        Rectangle A = rects.get(a);
+        int best = Integer.MAX_VALUE;
+        for (int row = row0[a]; row <= row1[a]; row++) {
+            for (int col = col0[a]; col <= col1[a]; col++) {
+                IndexBuffer bucket = buckets[row * cols + col];
+                if (bucket == null) continue;
+                for (int k = 0; k < bucket.size(); k++) {
+                    int b = bucket.get(k);
+                    if (b <= after || b >= best) continue;
+                    if (A.intersects(rects.get(b))) best = b;
+                }
+            }
+        }
+        return best == Integer.MAX_VALUE ? -1 : best;
+    }
+
+    /** El rectángulo i se movió: recolocarlo si ahora toca otras casillas. */
+    public void moved(int i) {
+        Rectangle r = rects.get(i);
+        int c0 = colOf(r.x), r0 = rowOf(r.y);
+        int c1 = colOf(r.x + r.width - 1), r1 = rowOf(r.y + r.height - 1);
+        if (c0 == col0[i] && r0 == row0[i] && c1 == col1[i] && r1 == row1[i]) return;
+        remove(i);
+        col0[i] = c0;
+        row0[i] = r0;
+        col1[i] = c1;
+        row1[i] = r1;
+        insert(i);
+    }
+
+    private void insert(int i) {
+        for (int row = row0[i]; row <= row1[i]; row++) {
+            for (int col = col0[i]; col <= col1[i]; col++) {
+                int cell = row * cols + col;
+                if (buckets[cell] == null) buckets[cell] = new IndexBuffer(8);
+                buckets[cell].add(i);
+            }
+        }
+    }
+
+    private void remove(int i) {
+        for (int row = row0[i]; row <= row1[i]; row++) {
+            for (int col = col0[i]; col <= col1[i]; col++) {
+                buckets[row * cols + col].removeValue(i);
+            }
+        }
+    }
+
+    // fuera de la rejilla: casilla del borde
+    private int colOf(int px) {
+        return Math.max(0, Math.min(cols - 1, Math.floorDiv(px - originX, cellSize)));
+    }
+
+    private int rowOf(int py) {
+        return Math.max(0, Math.min(rows - 1, Math.floorDiv(py - originY, cellSize)));
+    }
+}
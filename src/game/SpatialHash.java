@@ -0,0 +1,109 @@
+package game;
+
+import java.util.Arrays;
+
+/**
+ * Rejilla uniforme sobre un conjunto fijo de rectángulos (en arrays x/y/ancho/alto).
+ * Cada celda guarda los índices de los rectángulos que la tocan, en arrays compactos,
+ * así una consulta solo mira las celdas que cubre el área pedida.
+ *
+ * Es de solo lectura después de construirse: las consultas no guardan estado,
+ * así que se puede consultar desde varios hilos a la vez.
+ */
+public final class SpatialHash {
+
+    public static final int DEFAULT_CELL_SIZE = 256;
+
+    private final int[] xs, ys, ws, hs;
+    private final int cellSize;
+    private final int originX, originY;
+    private final int cols, rows;
+    private final int[] cellStart;   // cellStart[c]..cellStart[c+1] en cellItems
+    private final int[] cellItems;
+
+    public SpatialHash(int[] xs, int[] ys, int[] ws, int[] hs, int count, int cellSize) {
+        this.xs = xs;
+        this.ys = ys;
+        this.ws = ws;
+        this.hs = hs;
+        this.cellSize = cellSize;
+
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            minX = Math.min(minX, xs[i]);
+            minY = Math.min(minY, ys[i]);
+            maxX = Math.max(maxX, xs[i] + ws[i]);
+            maxY = Math.max(maxY, ys[i] + hs[i]);
+        }
+        if (count == 0) {
+            minX = minY = 0;
+            maxX = maxY = 1;
+        }
+        originX = Math.floorDiv(minX, cellSize) * cellSize;
+        originY = Math.floorDiv(minY, cellSize) * cellSize;
+        cols = Math.max(1, Math.floorDiv(maxX - 1 - originX, cellSize) + 1);
+        rows = Math.max(1, Math.floorDiv(maxY - 1 - originY, cellSize) + 1);
+
+        // 1ª pasada: contar por celda; 2ª pasada: rellenar
+        cellStart = new int[cols * rows + 1];
+        for (int i = 0; i < count; i++) {
+            if (ws[i] <= 0 || hs[i] <= 0) continue;
+            for (int row = rowOf(ys[i]); row <= rowOf(ys[i] + hs[i] - 1); row++) {
+                for (int col = colOf(xs[i]); col <= colOf(xs[i] + ws[i] - 1); col++) {
+                    cellStart[row * cols + col + 1]++;
+                }
+            }
+        }
+        for (int c = 0; c < cols * rows; c++) cellStart[c + 1] += cellStart[c];
+        cellItems = new int[cellStart[cols * rows]];
+        int[] fill = Arrays.copyOf(cellStart, cols * rows);
+        for (int i = 0; i < count; i++) {
+            if (ws[i] <= 0 || hs[i] <= 0) continue;
+            for (int row = rowOf(ys[i]); row <= rowOf(ys[i] + hs[i] - 1); row++) {
+                for (int col = colOf(xs[i]); col <= colOf(xs[i] + ws[i] - 1); col++) {
+                    cellItems[fill[row * cols + col]++] = i;
+                }
+            }
+        }
+    }
+
+    /**
+     * Escribe en out (vaciándolo antes) los índices de los rectángulos que se solapan
+     * con el área dada, en orden ascendente. Devuelve cuántos hay.
+     */
+    public int query(int x, int y, int w, int h, IndexBuffer out) {
+        out.clear();
+        if (w <= 0 || h <= 0) return 0;
+        if (x + w <= originX || y + h <= originY
+                || x >= originX + cols * cellSize || y >= originY + rows * cellSize) return 0;
+        int c0 = Math.max(0, colOf(x));
+        int c1 = Math.min(cols - 1, colOf(x + w - 1));
+        int r0 = Math.max(0, rowOf(y));
+        int r1 = Math.min(rows - 1, rowOf(y + h - 1));
+
+        for (int row = r0; row <= r1; row++) {
+            for (int col = c0; col <= c1; col++) {
+                int cell = row * cols + col;
+                for (int k = cellStart[cell]; k < cellStart[cell + 1]; k++) {
+                    int i = cellItems[k];
+                    if (xs[i] >= x + w || x >= xs[i] + ws[i] || ys[i] >= y + h || y >= ys[i] + hs[i]) continue;
+                    // un rectángulo que ocupa varias celdas solo se cuenta en la celda
+                    // donde empieza su intersección con el área pedida
+                    if (colOf(Math.max(xs[i], x)) != col || rowOf(Math.max(ys[i], y)) != row) continue;
+                    out.add(i);
+                }
+            }
+        }
+        out.sort();
+        return out.size();
+    }
+
+    private int colOf(int px) {
+        return Math.floorDiv(px - originX, cellSize);
+    }
+
+    private int rowOf(int py) {
+        return Math.floorDiv(py - originY, cellSize);
+    }
+}
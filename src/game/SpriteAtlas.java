@@ -0,0 +1,152 @@
+package game;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Atlas de sprites: las imágenes pequeñas (jugador, objetos, HUD) se copian, ya
+ * escaladas al tamaño al que se dibujan, en unas pocas páginas grandes compatibles
+ * con la pantalla, y se dibujan por rectángulo de origen. Muchas entidades animadas
+ * comparten así la misma textura en vez de cambiar de imagen en cada drawImage.
+ *
+ * Se empaqueta por estantes al pedir cada sprite la primera vez (en la carga):
+ *
+ *     Sprite heart = SpriteAtlas.get().sprite("/items/heart.png", 32, 32);
+ *     heart.draw(g, x, y);
+ */
+public class SpriteAtlas {
+
+    public static final int PAGE_SIZE = 1024;
+    // separación entre sprites para que el filtrado no mezcle vecinos
+    private static final int PADDING = 1;
+
+    private static final SpriteAtlas INSTANCE = new SpriteAtlas();
+
+    /** Un rectángulo de una página. */
+    public record Sprite(BufferedImage page, int x, int y, int width, int height) {
+        public void draw(Graphics g, int dx, int dy) {
+            g.drawImage(page, dx, dy, dx + width, dy + height, x, y, x + width, y + height, null);
+        }
+    }
+
+    /** Secuencia de sprites con duración fija por frame, medida en ticks. */
+    public static final class Animation {
+        private final Sprite[] frames;
+        private final long ticksPerFrame;
+
+        Animation(Sprite[] frames, long ticksPerFrame) {
+            this.frames = frames;
+            this.ticksPerFrame = Math.max(1, ticksPerFrame);
+        }
+
+        public Sprite frameAt(long tick) {
+            return frames[indexAt(tick)];
+        }
+
+        public Sprite frame(int index) {
+            return frames[index];
+        }
+
+        public int indexAt(long tick) {
+            return (int) Math.floorMod(tick / ticksPerFrame, (long) frames.length);
+        }
+
+        public int length() {
+            return frames.length;
+        }
+    }
+
+    // clave: imagen original (por identidad) y tamaño de dibujo
+    private record Key(Image source, int width, int height) {}
+
+    private final Map<Key, Sprite> sprites = new HashMap<>();
+    private final List<BufferedImage> pages = new ArrayList<>();
+
+    // estante actual de la última página
+    private int shelfX, shelfY, shelfHeight;
+
+    private SpriteAtlas() {
+    }
+
+    /** Atlas compartido por toda la ejecución. */
+    public static SpriteAtlas get() {
+        return INSTANCE;
+    }
+
+    /** Sprite del recurso del classpath a width x height, o null si no existe. */
+    public synchronized Sprite sprite(String path, int width, int height) {
+        return sprite(Assets.get().image(path), width, height);
+    }
+
+    /** Sprite de cualquier imagen a width x height (se empaqueta la primera vez). */
+    public synchronized Sprite sprite(Image source, int width, int height) {
+        if (source == null) return null;
+        Key key = new Key(source, width, height);
+        Sprite sprite = sprites.get(key);
+        if (sprite == null) {
+            sprite = pack(Assets.get().scaled(source, width, height));
+            sprites.put(key, sprite);
+        }
+        return sprite;
+    }
+
+    /** Animación con los recursos dados como frames; null si falta alguno. */
+    public synchronized Animation animation(long ticksPerFrame, int width, int height, String... paths) {
+        Sprite[] frames = new Sprite[paths.length];
+        for (int i = 0; i < paths.length; i++) {
+            frames[i] = sprite(paths[i], width, height);
+            if (frames[i] == null) return null;
+        }
+        return new Animation(frames, ticksPerFrame);
+    }
+
+    public synchronized int pageCount() {
+        return pages.size();
+    }
+
+    // ---------- empaquetado por estantes ----------
+
+    private Sprite pack(BufferedImage img) {
+        int w = img.getWidth() + PADDING;
+        int h = img.getHeight() + PADDING;
+
+        // más grande que una página: página propia
+        if (w > PAGE_SIZE || h > PAGE_SIZE) {
+            BufferedImage page = Assets.get().createImage(img.getWidth(), img.getHeight(), true);
+            pages.add(page);
+            // la página grande no acepta más sprites: se abre una nueva en el siguiente
+            shelfY = PAGE_SIZE;
+            return copy(img, page, 0, 0);
+        }
+
+        if (!pages.isEmpty() && shelfX + w > PAGE_SIZE) {
+            // nuevo estante debajo del actual
+            shelfY += shelfHeight;
+            shelfX = 0;
+            shelfHeight = 0;
+        }
+        if (pages.isEmpty() || shelfY + h > PAGE_SIZE) {
+            pages.add(Assets.get().createImage(PAGE_SIZE, PAGE_SIZE, true));
+            shelfX = 0;
+            shelfY = 0;
+            shelfHeight = 0;
+        }
+
+        Sprite sprite = copy(img, pages.get(pages.size() - 1), shelfX, shelfY);
+        shelfX += w;
+        shelfHeight = Math.max(shelfHeight, h);
+        return sprite;
+    }
+
+    private static Sprite copy(BufferedImage img, BufferedImage page, int x, int y) {
+        Graphics2D g = page.createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        g.drawImage(img, x, y, null);
+        g.dispose();
+        return new Sprite(page, x, y, img.getWidth(), img.getHeight());
+    }
+}
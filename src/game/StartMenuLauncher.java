@@ -5,6 +5,9 @@ import java.awt.*;
 
 public class StartMenuLauncher extends JFrame {
 
+    // menú, partida y pausa, con su ciclo de vida
+    private final ScreenManager screens;
+
     public StartMenuLauncher() {
         super("LimitBreak");
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
@@ -15,54 +18,12 @@ public class StartMenuLauncher extends JFrame {
         setLocationRelativeTo(null);
         setVisible(true);
 
-        showMenu(); //  inicia con el menu principal
-    }
-
-    // Muestra el menu principal
-    public void showMenu() {
-        getContentPane().removeAll();
-        getContentPane().add(new StartMenuPanel(this));
-        revalidate();
-        repaint();
-    }
-
-    // Inicia el juego
-    public void startGame(Dimension size, boolean fullscreen, int cameraOffsetX, int cameraOffsetY) {
-        getContentPane().removeAll();
-
-        Game gamePanel = new Game(this, size, fullscreen, cameraOffsetX, cameraOffsetY);
-        getContentPane().add(gamePanel);
-
-        revalidate();
-        repaint();
-
-        // <-- Esto asegura que el panel reciba las teclas
-        gamePanel.requestFocusInWindow();
+        screens = new ScreenManager(getContentPane(), () -> System.exit(0));
+        screens.showMenu(); //  inicia con el menu principal
     }
 
-
-
-    public void resumeGame(Game previousGame) {
-        getContentPane().removeAll();
-        getContentPane().add(previousGame);
-        previousGame.requestFocus(); // ← importante para que las teclas funcionen
-        revalidate();
-        repaint();
-    }
-
-
-    // Muestra el menu de pausa
-    public void showPause(Game currentGame) {
-        getContentPane().removeAll();
-        getContentPane().add(new PauseMenuPanel(this, currentGame));
-        revalidate();
-        repaint();
-    }
-
-
-    // Cierra el juego
-    public void exitGame() {
-        System.exit(0);
+    public ScreenManager getScreens() {
+        return screens;
     }
 
     public static void main(String[] args) {
@@ -4,25 +4,26 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
-import java.util.Random;
 
-public class StartMenuPanel extends JPanel {
+public class StartMenuPanel extends JPanel implements Screen {
     private final String[] options = {"Jugar", "Continuar", "Opciones", "Salir"};
     private int selectedIndex = 0;
     public boolean inOptions = false;
     public int resolutionIndex = 1;
     public int languageIndex = 0;
     public int volume = 60;
+    public int renderIndex = 0;
     public int optionIndex = 0;
-    private final Random rand = new Random();
+    private final MenuBackground background = new MenuBackground();
 
     private final String[] resolutions = {"800x600", "1280x720", "1366x768", "1920x1080", "Pantalla completa"};
     private final String[] languages = {"Español", "Inglés"};
+    private final String[] renderResolutions = {"Nativa", "960x540", "640x360"};
 
     private boolean blinkState = true;
     private Timer blinkTimer;
 
-    private StartMenuLauncher launcher;
+    private final ScreenManager screens;
     @Override
     public void addNotify() {
         super.addNotify();
@@ -30,17 +31,18 @@ public class StartMenuPanel extends JPanel {
     }
 
 
-    public StartMenuPanel(StartMenuLauncher launcher) {
-        this.launcher = launcher;
+    public StartMenuPanel(ScreenManager screens) {
+        this.screens = screens;
         setFocusable(true);
         requestFocusInWindow();
         setBackground(Color.BLACK);
 
+        // en cada parpadeo cambian también las líneas del fondo (en opciones también): se repinta todo
         blinkTimer = new Timer(500, e -> {
             blinkState = !blinkState;
+            background.next();
             repaint();
         });
-        blinkTimer.start();
 
         addKeyListener(new KeyAdapter() {
             @Override
@@ -50,20 +52,27 @@ public class StartMenuPanel extends JPanel {
         });
     }
 
+    // el parpadeo solo corre mientras el menú está en la ventana
+    @Override
+    public void onShow() {
+        blinkTimer.start();
+    }
+
+    @Override
+    public void onHide() {
+        blinkTimer.stop();
+    }
+
+    @Override
+    public void dispose() {
+        onHide();
+        background.dispose();
+    }
+
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
-        g.setColor(Color.BLACK);
-        g.fillRect(0, 0, getWidth(), getHeight());
-
-        g.setColor(new Color(100, 100, 255, 80));
-        for (int i = 0; i < 60; i++) {
-            int x1 = rand.nextInt(getWidth());
-            int y1 = rand.nextInt(getHeight());
-            int x2 = x1 + rand.nextInt(40) - 20;
-            int y2 = y1 + rand.nextInt(40) - 20;
-            g.drawLine(x1, y1, x2, y2);
-        }
+        background.draw(g, getWidth(), getHeight());
 
         if (!inOptions) {
             drawMainMenu(g);
@@ -74,10 +83,10 @@ public class StartMenuPanel extends JPanel {
 
     private void drawMainMenu(Graphics g) {
         g.setColor(Color.WHITE);
-        g.setFont(new Font("Serif", Font.BOLD, 48));
+        g.setFont(UiResources.TITLE);
         g.drawString("LimitBreak", getWidth() / 2 - 140, 100);
 
-        g.setFont(new Font("Consolas", Font.PLAIN, 24));
+        g.setFont(UiResources.MENU);
         for (int i = 0; i < options.length; i++) {
             boolean selected = (i == selectedIndex);
             String label = options[i];
@@ -87,17 +96,17 @@ public class StartMenuPanel extends JPanel {
             g.drawString(text, getWidth() / 2 - 100, 200 + i * 50);
         }
 
-        g.setFont(new Font("Consolas", Font.PLAIN, 14));
+        g.setFont(UiResources.HINT);
         g.setColor(Color.GRAY);
         g.drawString(" ↑ ↓ para moverse | J para seleccionar", getWidth() / 2 - 150, 450);
     }
 
     private void drawOptionsMenu(Graphics g) {
         g.setColor(Color.WHITE);
-        g.setFont(new Font("Consolas", Font.BOLD, 24));
+        g.setFont(UiResources.MENU_HEADER);
         g.drawString("OPCIONES", getWidth() / 2 - 70, 60);
 
-        g.setFont(new Font("Consolas", Font.PLAIN, 20));
+        g.setFont(UiResources.MENU_SMALL);
 
         g.setColor(optionIndex == 0 ? Color.YELLOW : Color.WHITE);
         g.drawString("[Resolución]", 100, 120);
@@ -116,21 +125,25 @@ public class StartMenuPanel extends JPanel {
         int barHeight = 20;
         int fillWidth = (int) (barWidth * (volume / 100.0));
 
-        g.setColor(new Color(30, 30, 30));
+        g.setColor(UiResources.SLOT_BACKGROUND);
         g.fillRect(barX, barY, barWidth, barHeight);
-        g.setColor(new Color(80, 160, 200));
+        g.setColor(UiResources.VOLUME_FILL);
         g.fillRect(barX, barY, fillWidth, barHeight);
         g.setColor(Color.LIGHT_GRAY);
         g.drawRect(barX, barY, barWidth, barHeight);
         g.drawString(volume + "%", barX + barWidth + 10, barY + 17);
 
+        g.setColor(optionIndex == 3 ? Color.YELLOW : Color.WHITE);
+        g.drawString("[Render interno]", 100, 270);
+        g.drawString("< " + renderResolutions[renderIndex] + " >", 300, 270);
+
         g.setColor(Color.GRAY);
-        g.setFont(new Font("Consolas", Font.ITALIC, 14));
-        g.drawString("Versión: 1.0.0", 100, 300);
+        g.setFont(UiResources.HINT_ITALIC);
+        g.drawString("Versión: 1.0.0", 100, 320);
 
-        g.setColor(optionIndex == 3 ? Color.YELLOW : Color.WHITE);
-        g.setFont(new Font("Consolas", Font.PLAIN, 20));
-        g.drawString("[Volver]", 100, 350);
+        g.setColor(optionIndex == 4 ? Color.YELLOW : Color.WHITE);
+        g.setFont(UiResources.MENU_SMALL);
+        g.drawString("[Volver]", 100, 370);
     }
 
     public void handleInput(int keyCode) {
@@ -154,7 +167,14 @@ public class StartMenuPanel extends JPanel {
                             }
 
                             boolean fullscreen = res.equals("Pantalla completa");
-                            launcher.startGame(size, fullscreen, 1000, 1000); // offset deseado
+
+                            // resolución interna del mundo (null = nativa)
+                            Dimension internal = null;
+                            if (renderIndex > 0) {
+                                String[] parts = renderResolutions[renderIndex].split("x");
+                                internal = new Dimension(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]));
+                            }
+                            screens.startGame(size, fullscreen, internal, 1000, 1000); // offset deseado
 
                         }
                         case 1 -> System.out.println("Continuar (aún no implementado)");
@@ -162,19 +182,20 @@ public class StartMenuPanel extends JPanel {
                             inOptions = true;
                             optionIndex = 0;
                         }
-                        case 3 -> launcher.exitGame();
+                        case 3 -> screens.exitGame();
                     }
                 }
             }
         } else {
             switch (keyCode) {
-                case KeyEvent.VK_UP -> optionIndex = (optionIndex - 1 + 4) % 4;
-                case KeyEvent.VK_DOWN -> optionIndex = (optionIndex + 1) % 4;
+                case KeyEvent.VK_UP -> optionIndex = (optionIndex - 1 + 5) % 5;
+                case KeyEvent.VK_DOWN -> optionIndex = (optionIndex + 1) % 5;
                 case KeyEvent.VK_LEFT -> {
                     switch (optionIndex) {
                         case 0 -> resolutionIndex = (resolutionIndex - 1 + resolutions.length) % resolutions.length;
                         case 1 -> languageIndex = (languageIndex - 1 + languages.length) % languages.length;
                         case 2 -> volume = Math.max(0, volume - 5);
+                        case 3 -> renderIndex = (renderIndex - 1 + renderResolutions.length) % renderResolutions.length;
                     }
                 }
                 case KeyEvent.VK_RIGHT -> {
@@ -182,10 +203,11 @@ public class StartMenuPanel extends JPanel {
                         case 0 -> resolutionIndex = (resolutionIndex + 1) % resolutions.length;
                         case 1 -> languageIndex = (languageIndex + 1) % languages.length;
                         case 2 -> volume = Math.min(100, volume + 5);
+                        case 3 -> renderIndex = (renderIndex + 1) % renderResolutions.length;
                     }
                 }
                 case KeyEvent.VK_ENTER, KeyEvent.VK_J -> {
-                    if (optionIndex == 3) {
+                    if (optionIndex == 4) {
                         inOptions = false;
                     }
                 }
@@ -0,0 +1,63 @@
+package game;
+
+import java.awt.*;
+import java.util.List;
+
+/**
+ * Geometría estática e inmutable de una sala (paredes, suelos...).
+ * Se construye una vez copiando los rectángulos a arrays de enteros y se
+ * comparte sin copiarla: se recorre por índice, sin iteradores ni asignaciones.
+ *
+ *     for (int i = 0; i < geo.size(); i++) { geo.x(i); geo.y(i); ... }
+ */
+public final class StaticGeometry {
+
+    private static final StaticGeometry EMPTY = new StaticGeometry(List.of());
+
+    private final int[] xs, ys, ws, hs;
+    private final SpatialHash index;
+
+    public StaticGeometry(List<Rectangle> rects) {
+        int n = rects.size();
+        xs = new int[n];
+        ys = new int[n];
+        ws = new int[n];
+        hs = new int[n];
+        for (int i = 0; i < n; i++) {
+            Rectangle r = rects.get(i);
+            xs[i] = r.x;
+            ys[i] = r.y;
+            ws[i] = r.width;
+            hs[i] = r.height;
+        }
+        index = new SpatialHash(xs, ys, ws, hs, n, SpatialHash.DEFAULT_CELL_SIZE);
+    }
+
+    public static StaticGeometry empty() {
+        return EMPTY;
+    }
+
+    public int size() { return xs.length; }
+    public int x(int i) { return xs[i]; }
+    public int y(int i) { return ys[i]; }
+    public int width(int i) { return ws[i]; }
+    public int height(int i) { return hs[i]; }
+
+    /** Solapamiento estricto (como Rectangle.intersects) entre el rectángulo i y el área dada. */
+    public boolean intersects(int i, int x, int y, int w, int h) {
+        return xs[i] < x + w && x < xs[i] + ws[i] && ys[i] < y + h && y < ys[i] + hs[i];
+    }
+
+    /**
+     * Índices de los rectángulos que se solapan con el área dada, en orden ascendente,
+     * escritos en out. Devuelve cuántos hay.
+     */
+    public int query(int x, int y, int w, int h, IndexBuffer out) {
+        return index.query(x, y, w, h, out);
+    }
+
+    /** Copia nueva del rectángulo i (solo para código que no es del bucle de juego). */
+    public Rectangle toRectangle(int i) {
+        return new Rectangle(xs[i], ys[i], ws[i], hs[i]);
+    }
+}
@@ -0,0 +1,106 @@
+package game;
+
+import java.awt.*;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Caché de texto ya partido en líneas y convertido a GlyphVector, por texto,
+ * fuente, ancho y contexto de render. Las descripciones de los menús se miden
+ * y se parten una sola vez; después dibujarlas es solo drawGlyphVector.
+ *
+ * Solo se usa desde el hilo de Swing.
+ */
+public final class TextLayoutCache {
+
+    private static final int MAX_ENTRIES = 256;
+    private static final TextLayoutCache INSTANCE = new TextLayoutCache();
+
+    /** Texto partido en líneas listas para dibujar. */
+    public static final class WrappedText {
+        private final GlyphVector[] lines;
+
+        WrappedText(GlyphVector[] lines) {
+            this.lines = lines;
+        }
+
+        public int lineCount() {
+            return lines.length;
+        }
+
+        /** Dibuja cada línea con la línea base en y, y + lineHeight... */
+        public void draw(Graphics2D g, int x, int y, int lineHeight) {
+            for (int i = 0; i < lines.length; i++) {
+                g.drawGlyphVector(lines[i], x, y + i * lineHeight);
+            }
+        }
+    }
+
+    private record Key(String text, Font font, int width, FontRenderContext frc) {}
+
+    // LRU pequeño: los textos de los menús son pocos
+    private final Map<Key, WrappedText> entries = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, WrappedText> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private TextLayoutCache() {
+    }
+
+    public static TextLayoutCache get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Texto con la fuente dada, partido en los saltos de línea y, si width > 0,
+     * también por palabras para no pasar de width píxeles.
+     */
+    public WrappedText layout(Graphics2D g, String text, Font font, int width) {
+        FontRenderContext frc = g.getFontRenderContext();
+        Key key = new Key(text, font, width, frc);
+        WrappedText wrapped = entries.get(key);
+        if (wrapped == null) {
+            wrapped = build(g.getFontMetrics(font), text, font, width, frc);
+            entries.put(key, wrapped);
+        }
+        return wrapped;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static WrappedText build(FontMetrics fm, String text, Font font, int width, FontRenderContext frc) {
+        List<String> lines = new ArrayList<>();
+        for (String paragraph : text.split("\n")) {
+            if (width <= 0) {
+                lines.add(paragraph);
+                continue;
+            }
+            // reparto voraz por palabras
+            StringBuilder line = new StringBuilder();
+            for (String word : paragraph.split(" ")) {
+                String testLine = line + word + " ";
+                if (fm.stringWidth(testLine) > width) {
+                    lines.add(line.toString());
+                    line = new StringBuilder(word + " ");
+                } else {
+                    line.append(word).append(" ");
+                }
+            }
+            lines.add(line.toString());
+        }
+
+        GlyphVector[] glyphs = new GlyphVector[lines.size()];
+        for (int i = 0; i < glyphs.length; i++) {
+            glyphs[i] = font.createGlyphVector(frc, lines.get(i));
+        }
+        return new WrappedText(glyphs);
+    }
+}
@@ -0,0 +1,48 @@
+package game;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Triple buffer sin bloqueos entre un escritor y un lector.
+ * El escritor rellena back() y lo publica; el lector toma con acquire() el último
+ * publicado. Cada uno tiene siempre su propio objeto y el tercero queda en medio,
+ * así ninguno espera al otro y el lector nunca ve un objeto a medio escribir.
+ * No reserva memoria después de construirse.
+ */
+public final class TripleBuffer<T> {
+
+    // bit que marca que el objeto del medio es nuevo (aún no lo tomó el lector)
+    private static final int FRESH = 4;
+    private static final int INDEX = 3;
+
+    private final Object[] slots;
+    // índice del objeto del medio | FRESH
+    private final AtomicInteger middle = new AtomicInteger(1);
+    private int back = 0;  // solo el escritor
+    private int front = 2; // solo el lector
+
+    public TripleBuffer(Supplier<T> factory) {
+        slots = new Object[] {factory.get(), factory.get(), factory.get()};
+    }
+
+    /** Objeto que está rellenando el escritor. */
+    @SuppressWarnings("unchecked")
+    public T back() {
+        return (T) slots[back];
+    }
+
+    /** Publica back() y pasa a escribir en el que estaba en medio. */
+    public void publish() {
+        back = middle.getAndSet(back | FRESH) & INDEX;
+    }
+
+    /** El último objeto publicado (o el mismo de antes si no hay ninguno nuevo). */
+    @SuppressWarnings("unchecked")
+    public T acquire() {
+        if ((middle.get() & FRESH) != 0) {
+            front = middle.getAndSet(front) & INDEX;
+        }
+        return (T) slots[front];
+    }
+}
@@ -0,0 +1,35 @@
+package game;
+
+import java.awt.*;
+
+/**
+ * Fuentes y colores compartidos por los menús. Se crean una sola vez en vez de
+ * hacer new Font/new Color en cada paint.
+ */
+public final class UiResources {
+
+    // ---------- fuentes ----------
+    public static final Font TITLE = new Font("Serif", Font.BOLD, 48);
+    public static final Font MENU = new Font("Consolas", Font.PLAIN, 24);
+    public static final Font MENU_HEADER = new Font("Consolas", Font.BOLD, 24);
+    public static final Font MENU_SMALL = new Font("Consolas", Font.PLAIN, 20);
+    public static final Font HEADER = new Font("Consolas", Font.BOLD, 20);
+    public static final Font ITEM_NAME = new Font("Consolas", Font.BOLD, 18);
+    public static final Font SUBTITLE = new Font("Consolas", Font.PLAIN, 18);
+    public static final Font BODY = new Font("Consolas", Font.PLAIN, 16);
+    public static final Font HINT = new Font("Consolas", Font.PLAIN, 14);
+    public static final Font HINT_ITALIC = new Font("Consolas", Font.ITALIC, 14);
+    public static final Font DESCRIPTION = new Font("Arial", Font.ITALIC, 14);
+
+    // ---------- colores ----------
+    public static final Color MENU_LINES = new Color(100, 100, 255, 80);
+    public static final Color PANEL_BACKGROUND = new Color(10, 10, 10, 230);
+    public static final Color FRAME_BACKGROUND = new Color(20, 20, 20, 200);
+    public static final Color SLOT_BACKGROUND = new Color(30, 30, 30);
+    public static final Color VOLUME_FILL = new Color(80, 160, 200);
+    public static final Color PASSIVE_TEXT = new Color(180, 160, 220);
+    public static final Color PASSIVE_FLAVOR = new Color(200, 180, 240);
+
+    private UiResources() {
+    }
+}
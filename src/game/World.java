@@ -0,0 +1,124 @@
+package game;
+
+import java.awt.*;
+import java.util.Random;
+
+/**
+ * Estado de la simulación sin Swing: jugador, enemigos, sala actual, inventario y regeneración.
+ * Avanza un tick fijo con {@link #step(InputFrame)}; no depende del tamaño de ningún
+ * componente ni de timers, así que funciona con java.awt.headless=true.
+ */
+public class World {
+
+    private final Player player;
+    private EnemyMelee enemy;
+    private final Inventory inventory;
+    private Room currentRoom;
+    // la sala que se acaba de dejar: la libera el EDT cuando ya no la dibuja
+    private Room retiredRoom;
+
+    private int regenCounter = 0;
+    private final int regenDelay = 300;
+
+    private final GameClock clock = new GameClock();
+    private final Random rng;
+    private boolean roomChanged = false;
+
+    private final FrameProfiler profiler = FrameProfiler.get();
+
+    // caja de ataque reutilizada en cada tick
+    private final Rectangle attackBox = new Rectangle();
+
+    public World() {
+        this(new Random());
+    }
+
+    // con semilla fija la partida es reproducible (mazmorras incluidas)
+    public World(long seed) {
+        this(new Random(seed));
+    }
+
+    private World(Random rng) {
+        this.rng = rng;
+        // sala inicial
+        currentRoom = new RoomMain();
+        // crear player: colocarlo sobre el piso de RoomMain (centro)
+        int startX = 200; // valor razonable dentro de RoomMain
+        int startY = 800; // encima del piso de RoomMain
+        player = new Player(startX, startY, 40, 40, 8, clock);
+
+        // enemigo de prueba
+        enemy = new EnemyMelee(400, 820, 40, 40, 200, 500, 2);
+
+        inventory = new Inventory();
+    }
+
+    /** Un paso fijo de simulación. */
+    public void step(InputFrame input) {
+        clock.advance();
+
+        long t = profiler.begin();
+        player.pressLeft(input.left);
+        player.pressRight(input.right);
+        if (input.jump) player.pressJump();
+        if (input.attackStart) player.startAttack();
+        if (input.attackStop) player.stopAttack();
+        profiler.end(FrameProfiler.Phase.INPUT, t);
+
+        t = profiler.begin();
+        player.update(currentRoom);
+        profiler.end(FrameProfiler.Phase.PHYSICS, t);
+
+        t = profiler.begin();
+        if (enemy != null) enemy.update(player);
+
+        if (enemy != null && player.getAttackBox(attackBox) && enemy.overlaps(attackBox)) {
+            enemy.takeDamage(1);
+        }
+        profiler.end(FrameProfiler.Phase.AI, t);
+
+        t = profiler.begin();
+        if (player.getHealth() < player.getMaxHealth()) {
+            regenCounter++;
+            if (regenCounter >= regenDelay) {
+                player.addHealth(1);
+                regenCounter = 0;
+            }
+        }
+
+        // cambio de sala
+        if (player.overlaps(currentRoom.getExitDoor())) {
+            // la de antes de la anterior ya no puede estar en pantalla
+            if (retiredRoom != null) retiredRoom.dispose();
+            retiredRoom = currentRoom;
+            currentRoom = new RoomDungeon(rng.nextLong());
+            player.setPosition(100, 100);
+            roomChanged = true;
+        }
+        profiler.end(FrameProfiler.Phase.ROOM_LOGIC, t);
+    }
+
+    /** Libera los recursos de la sala actual y de la anterior (cachés de dibujo); el mundo ya no se usa. */
+    public void dispose() {
+        currentRoom.dispose();
+        if (retiredRoom != null) retiredRoom.dispose();
+    }
+
+    /** true una sola vez tras cambiar de sala (para recolocar la cámara). */
+    public boolean consumeRoomChanged() {
+        boolean changed = roomChanged;
+        roomChanged = false;
+        return changed;
+    }
+
+    public Player getPlayer() { return player; }
+    public EnemyMelee getEnemy() { return enemy; }
+    public Inventory getInventory() { return inventory; }
+    public Room getCurrentRoom() { return currentRoom; }
+    /**
+     * La última sala abandonada, o null. El mundo no la libera al cambiar de sala porque
+     * el dibujo puede seguir con ella un frame más: la libera quien la dibuja.
+     */
+    public Room getRetiredRoom() { return retiredRoom; }
+    public GameClock getClock() { return clock; }
+}
@@ -0,0 +1,20 @@
+package game;
+
+import java.lang.management.ManagementFactory;
+
+/** Bytes que asigna el hilo actual mientras corre un trozo de código. */
+final class Allocations {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private Allocations() {
+    }
+
+    static long during(Runnable body) {
+        long id = Thread.currentThread().getId();
+        long before = THREADS.getThreadAllocatedBytes(id);
+        body.run();
+        return THREADS.getThreadAllocatedBytes(id) - before;
+    }
+}
@@ -0,0 +1,34 @@
+package game;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Cada vez que la escala se divide a la mitad se baja un nivel de detalle,
+ * hasta el último (1/8), que se mantiene aunque se aleje más.
+ */
+class ChunkCacheTest {
+
+    @Test
+    void fullDetailAboveHalfScale() {
+        assertEquals(0, ChunkCache.levelFor(8.0));
+        assertEquals(0, ChunkCache.levelFor(1.0));
+        assertEquals(0, ChunkCache.levelFor(0.7));
+    }
+
+    @Test
+    void eachHalvingDropsOneLevel() {
+        assertEquals(1, ChunkCache.levelFor(0.5));
+        assertEquals(1, ChunkCache.levelFor(0.3));
+        assertEquals(2, ChunkCache.levelFor(0.25));
+        assertEquals(2, ChunkCache.levelFor(0.2));
+        assertEquals(3, ChunkCache.levelFor(0.125));
+    }
+
+    @Test
+    void lastLevelHoldsBelowOneEighth() {
+        assertEquals(ChunkCache.MAX_LEVEL, ChunkCache.levelFor(0.125));
+        assertEquals(ChunkCache.MAX_LEVEL, ChunkCache.levelFor(0.01));
+    }
+}
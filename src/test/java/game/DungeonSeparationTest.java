@@ -0,0 +1,62 @@
+package game;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.*;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Las mazmorras grandes se separan en una sola pasada sin solapes y dentro del
+ * presupuesto de un frame; las de tamaño normal siguen con la relajación.
+ */
+class DungeonSeparationTest {
+
+    private static final long FRAME_BUDGET_NANOS = 16_000_000L;
+    private static final int RUNS = 15;
+
+    @Test
+    void largeCountsEndWithoutOverlaps() {
+        for (int count : new int[]{1000, 2000}) {
+            for (long seed = 1; seed <= 3; seed++) {
+                List<Rectangle> cells = RoomDungeon.scatterCells(new Random(seed), count);
+                RoomDungeon.placeOnGrid(cells);
+                assertEquals(0, overlaps(cells), count + " celdas, semilla " + seed);
+            }
+        }
+    }
+
+    @Test
+    void thousandCellsFitTheFrameBudget() {
+        long best = Long.MAX_VALUE;
+        for (int run = 0; run < RUNS; run++) {
+            List<Rectangle> cells = RoomDungeon.scatterCells(new Random(run), 1000);
+            long start = System.nanoTime();
+            RoomDungeon.placeOnGrid(cells);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        assertTrue(best < FRAME_BUDGET_NANOS, "1000 celdas en " + best / 1e6 + " ms");
+    }
+
+    @Test
+    void generatorPicksTheMethodByCellCount() {
+        GenerationStats normal = new RoomDungeon(42).getStats();
+        assertTrue(normal.separationIterations > 1, "la relajación hace varias pasadas");
+        assertTrue(normal.separationConverged);
+
+        GenerationStats large = new RoomDungeon(42, 1000).getStats();
+        assertEquals(1, large.separationIterations);
+        assertTrue(large.separationConverged);
+    }
+
+    private static int overlaps(List<Rectangle> cells) {
+        SeparationGrid grid = new SeparationGrid(cells, 2048);
+        int count = 0;
+        for (int a = 0; a < cells.size(); a++) {
+            for (int b = grid.nextOverlap(a, a); b >= 0; b = grid.nextOverlap(a, b)) count++;
+        }
+        return count;
+    }
+}
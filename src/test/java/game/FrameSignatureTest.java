@@ -0,0 +1,56 @@
+package game;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Un frame solo se da por igual al anterior si todos sus valores coinciden,
+ * en el mismo orden y con las mismas referencias.
+ */
+class FrameSignatureTest {
+
+    private final FrameSignature signature = new FrameSignature();
+    private final Object room = new Object();
+
+    private boolean frame(long cameraX, double zoom, Object currentRoom) {
+        return signature.reset().add(cameraX).add(zoom).add(currentRoom).add(true).changed();
+    }
+
+    @Test
+    void firstFrameIsAlwaysChanged() {
+        assertTrue(frame(10, 1.0, room));
+    }
+
+    @Test
+    void sameValuesAreUnchanged() {
+        frame(10, 1.0, room);
+        assertFalse(frame(10, 1.0, room));
+        assertFalse(frame(10, 1.0, room));
+    }
+
+    @Test
+    void anyDifferentValueIsChanged() {
+        frame(10, 1.0, room);
+        assertTrue(frame(11, 1.0, room));
+        assertTrue(frame(11, 1.1, room));
+        assertTrue(frame(11, 1.1, new Object()));
+    }
+
+    @Test
+    void differentNumberOfValuesIsChanged() {
+        signature.reset().add(1).add(2).changed();
+        assertTrue(signature.reset().add(1).add(2).add(3).changed());
+        assertTrue(signature.reset().add(1).add(2).changed());
+        assertFalse(signature.reset().add(1).add(2).changed());
+    }
+
+    @Test
+    void comparingAllocatesNothing() {
+        Runnable frames = () -> {
+            for (int i = 0; i < 100_000; i++) frame(i & 7, 1.0, room);
+        };
+        for (int i = 0; i < 20; i++) frames.run();
+        assertEquals(0, Allocations.during(frames));
+    }
+}
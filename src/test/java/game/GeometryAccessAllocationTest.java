@@ -0,0 +1,58 @@
+package game;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pedir la geometría de colisión de una sala y recorrerla, como hace cada tick,
+ * no copia nada ni asigna memoria.
+ */
+class GeometryAccessAllocationTest {
+
+    private static final int WARMUP_ROUNDS = 20_000;
+    private static final int ROUNDS = 5_000;
+
+    private final Room room = new RoomDungeon(42);
+    private long sink;
+
+    @Test
+    void getPlatformsReturnsTheSharedSnapshot() {
+        assertSame(room.getPlatforms(), room.getPlatforms());
+        assertTrue(room.getPlatforms().size() > 0);
+    }
+
+    @Test
+    void getPlatformsAndIterateAllocatesNothing() {
+        Runnable access = () -> {
+            for (int r = 0; r < ROUNDS; r++) {
+                StaticGeometry solids = room.getPlatforms();
+                for (int i = 0; i < solids.size(); i++) {
+                    sink += solids.x(i) + solids.y(i) + solids.width(i) + solids.height(i);
+                }
+            }
+        };
+        for (int i = 0; i < WARMUP_ROUNDS / ROUNDS; i++) access.run();
+
+        assertEquals(0, Allocations.during(access));
+    }
+
+    @Test
+    void querySolidsWithReusedBufferAllocatesNothing() {
+        IndexBuffer nearby = new IndexBuffer();
+        StaticGeometry solids = room.getPlatforms();
+        // áreas pequeñas repartidas por el mapa, como las de un tick del jugador
+        Runnable query = () -> {
+            for (int r = 0; r < ROUNDS; r++) {
+                int x = (r * 977) % room.getWidth(), y = (r * 613) % room.getHeight();
+                room.querySolids(x, y, 60, 60, nearby);
+                for (int k = 0; k < nearby.size(); k++) sink += solids.x(nearby.get(k));
+            }
+        };
+        // primero una consulta que toque muchos sólidos para que el buffer ya tenga su tamaño
+        room.querySolids(0, 0, room.getWidth(), room.getHeight(), nearby);
+        for (int i = 0; i < WARMUP_ROUNDS / ROUNDS; i++) query.run();
+
+        assertEquals(0, Allocations.during(query));
+    }
+}
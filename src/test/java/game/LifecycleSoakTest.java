@@ -0,0 +1,96 @@
+package game;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Prueba de resistencia del ciclo de pantallas, sin ventana (lenta: mvn test -Pslow).
+ * Ciclos: -Dsoak.cycles=N (por defecto 300).
+ *
+ * Repite menú → partida → pausa → partida → pausa → menú sobre un panel suelto,
+ * dibujando la partida en una imagen para que se llenen sus cachés. Falla si en el
+ * menú sigue vivo algún hilo del bucle ("game-loop" o "game-sim") o si hilos o heap
+ * crecen respecto a la primera muestra más allá del margen (una pantalla que no se
+ * libera los dispara).
+ */
+@Tag("slow")
+class LifecycleSoakTest {
+
+    private static final Dimension SIZE = new Dimension(800, 600);
+    private static final int SAMPLE_EVERY = 25;
+    // margen sobre la primera muestra (tras calentar cachés compartidas)
+    private static final int MAX_EXTRA_THREADS = 2;
+    private static final long MAX_EXTRA_HEAP = 32L * 1024 * 1024;
+    // deja correr unos frames del bucle en cada pantalla
+    private static final long DWELL_MILLIS = 5;
+
+    @Test
+    void screenCyclesReleaseThreadsAndMemory() throws Exception {
+        int cycles = Integer.getInteger("soak.cycles", 300);
+
+        JPanel root = new JPanel(new BorderLayout());
+        root.setSize(SIZE);
+        ScreenManager screens = new ScreenManager(root, () -> {});
+        BufferedImage frame = new BufferedImage(SIZE.width, SIZE.height, BufferedImage.TYPE_INT_RGB);
+        onEdt(screens::showMenu);
+
+        int baseThreads = -1;
+        long baseHeap = -1;
+        for (int i = 1; i <= cycles; i++) {
+            onEdt(() -> screens.startGame(SIZE, false, 1000, 1000));
+            onEdt(() -> draw(screens.getActiveGame(), frame));
+            onEdt(() -> screens.showPause(screens.getActiveGame()));
+            onEdt(() -> screens.resumeGame(screens.getActiveGame()));
+            onEdt(() -> screens.showPause(screens.getActiveGame()));
+            onEdt(screens::showMenu);
+
+            // tras volver al menú no debe quedar ningún bucle
+            assertEquals(0, countThreads("game-loop") + countThreads("game-sim"),
+                    "hilos del bucle vivos en el menú, ciclo " + i);
+
+            if (i % SAMPLE_EVERY == 0 || i == cycles) {
+                System.gc();
+                Thread.sleep(50);
+                int threads = Thread.activeCount();
+                Runtime rt = Runtime.getRuntime();
+                long heap = rt.totalMemory() - rt.freeMemory();
+                if (baseThreads < 0) {
+                    baseThreads = threads;
+                    baseHeap = heap;
+                } else {
+                    assertTrue(threads <= baseThreads + MAX_EXTRA_THREADS,
+                            "ciclo " + i + ": " + threads + " hilos, al principio " + baseThreads);
+                    assertTrue(heap <= baseHeap + MAX_EXTRA_HEAP,
+                            "ciclo " + i + ": heap " + heap / 1024 + " KB, al principio " + baseHeap / 1024 + " KB");
+                }
+            }
+        }
+    }
+
+    private static void draw(Game game, BufferedImage frame) {
+        game.setSize(SIZE);
+        Graphics2D g = frame.createGraphics();
+        game.paint(g);
+        g.dispose();
+    }
+
+    // ejecuta en el EDT y deja correr el bucle un momento antes del siguiente paso
+    private static void onEdt(Runnable step) throws Exception {
+        SwingUtilities.invokeAndWait(step);
+        Thread.sleep(DWELL_MILLIS);
+    }
+
+    private static int countThreads(String name) {
+        int count = 0;
+        for (Thread t : Thread.getAllStackTraces().keySet()) {
+            if (t.isAlive() && t.getName().equals(name)) count++;
+        }
+        return count;
+    }
+}
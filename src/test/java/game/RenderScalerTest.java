@@ -0,0 +1,57 @@
+package game;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * La escena a resolución interna se amplía por un factor entero cuando cabe,
+ * y se reduce entera (sin recortar) cuando la ventana es más pequeña.
+ */
+class RenderScalerTest {
+
+    private final RenderScaler scaler = new RenderScaler(new Dimension(960, 540));
+
+    @Test
+    void integerUpscaleWhenTheWindowIsLarger() {
+        assertEquals(2.0, scaler.scaleFor(1920, 1080));
+        assertEquals(1.0, scaler.scaleFor(1280, 720));
+        assertEquals(1920, scaler.outputWidth(2000, 1200));
+        assertEquals(1080, scaler.outputHeight(2000, 1200));
+    }
+
+    @Test
+    void smallWindowFitsTheWholeFrame() {
+        double scale = scaler.scaleFor(800, 600);
+        assertTrue(scale < 1, "escala " + scale);
+        assertEquals(800, scaler.outputWidth(800, 600));
+        assertEquals(450, scaler.outputHeight(800, 600));
+    }
+
+    @Test
+    void smallWindowShowsTheFrameCorners() {
+        BufferedImage out = new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = out.createGraphics();
+        try {
+            // blanco con un cuadrado rojo en la esquina inferior derecha de la escena
+            scaler.render(g, 800, 600, (bg, w, h) -> {
+                bg.setColor(Color.WHITE);
+                bg.fillRect(0, 0, w, h);
+                bg.setColor(Color.RED);
+                bg.fillRect(w - 40, h - 40, 40, 40);
+            });
+        } finally {
+            g.dispose();
+            scaler.dispose();
+        }
+
+        // centrada en vertical: bandas negras de 75 px arriba y abajo
+        assertEquals(Color.BLACK.getRGB(), out.getRGB(400, 70));
+        assertEquals(Color.WHITE.getRGB(), out.getRGB(2, 80));
+        assertEquals(Color.RED.getRGB(), out.getRGB(790, 515));
+        assertEquals(Color.BLACK.getRGB(), out.getRGB(400, 530));
+    }
+}
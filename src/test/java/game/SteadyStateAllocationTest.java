@@ -0,0 +1,130 @@
+package game;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * En régimen estable un tick de simulación no asigna memoria: tras calentar el JIT,
+ * varias ventanas de ticks seguidas medidas con ThreadMXBean tienen que dar 0 bytes.
+ * Los ticks medidos chocan de verdad con la geometría de la sala.
+ *
+ * Si el JIT aún recompila, la propia JVM puede apuntar unos cientos de bytes al hilo
+ * en una ventana suelta; por eso se admiten algunas ventanas de más, pero una
+ * asignación por tick ensuciaría todas y nunca se llegaría a la racha de ceros.
+ */
+class SteadyStateAllocationTest {
+
+    private static final int WARMUP_TICKS = 200_000;
+    private static final int WINDOW_TICKS = 20_000;
+    private static final int WINDOWS = 3;          // seguidas a 0 bytes
+    private static final int MAX_WINDOWS = 12;
+
+    /** Mundo completo (jugador, enemigo, ataque) sobre el piso de RoomMain. */
+    @Test
+    void worldStepOnRoomMainFloor() {
+        World world = new World(42);
+        InputFrame input = new InputFrame();
+        Room room = world.getCurrentRoom();
+        Player player = world.getPlayer();
+        int floorTop = room.getPlatforms().y(0);
+
+        int[] tick = {0};
+        int[] grounded = {0};
+        Runnable run = () -> {
+            for (int i = 0; i < WINDOW_TICKS; i++, tick[0]++) {
+                // ida y vuelta entre x=200 y ~700, lejos de la puerta; salta y ataca a ratos
+                input.right = (tick[0] / 60) % 2 == 0;
+                input.left = !input.right;
+                input.jump = tick[0] % 45 == 0;
+                input.attackStart = tick[0] % 90 == 0;
+                input.attackStop = tick[0] % 90 == 20;
+                world.step(input);
+                input.clearEdges();
+                if (player.getY() + player.getHeight() == floorTop) grounded[0]++;
+            }
+        };
+        for (int i = 0; i < WARMUP_TICKS / WINDOW_TICKS; i++) run.run();
+        grounded[0] = 0;
+
+        Runnable check = () -> {
+            assertSame(room, world.getCurrentRoom(), "cambio de sala durante la medida");
+            assertTrue(grounded[0] > WINDOW_TICKS / 4, "el jugador casi no pisó el suelo: " + grounded[0]);
+            grounded[0] = 0;
+        };
+        assertZeroStreak(run, check);
+    }
+
+    /** Jugador en una habitación de la mazmorra, chocando contra el suelo y las dos paredes. */
+    @Test
+    void playerAgainstDungeonWalls() {
+        RoomDungeon room = new RoomDungeon(42);
+        Rectangle floor = enclosedFloor(room);
+        GameClock clock = new GameClock();
+        int standY = floor.y + floor.height - RoomDungeon.WALL_THICKNESS;
+        Player player = new Player(floor.x + floor.width / 2, standY - 40, 40, 40, 8, clock);
+        int minX = floor.x + RoomDungeon.WALL_THICKNESS;
+        int maxX = floor.x + floor.width - RoomDungeon.WALL_THICKNESS - player.getWidth();
+
+        int[] tick = {0};
+        int[] atWall = {0};
+        Runnable run = () -> {
+            for (int i = 0; i < WINDOW_TICKS; i++, tick[0]++) {
+                clock.advance();
+                // 300 ticks a cada lado: cruza la habitación y se queda empujando la pared
+                boolean right = (tick[0] / 300) % 2 == 0;
+                player.pressRight(right);
+                player.pressLeft(!right);
+                if (tick[0] % 100 == 0) player.pressJump();
+                player.update(room);
+                if (player.getX() == minX || player.getX() == maxX) atWall[0]++;
+            }
+        };
+        for (int i = 0; i < WARMUP_TICKS / WINDOW_TICKS; i++) run.run();
+        atWall[0] = 0;
+
+        Runnable check = () -> {
+            assertTrue(player.getX() >= minX && player.getX() <= maxX, "el jugador salió de la habitación");
+            assertTrue(player.getY() + player.getHeight() <= standY, "el jugador atravesó el suelo");
+            assertTrue(atWall[0] > 0, "el jugador no llegó a tocar las paredes");
+            atWall[0] = 0;
+        };
+        assertZeroStreak(run, check);
+    }
+
+    // mide ventanas hasta juntar WINDOWS seguidas sin asignar nada; check valida cada ventana
+    private static void assertZeroStreak(Runnable window, Runnable check) {
+        StringBuilder seen = new StringBuilder();
+        int streak = 0;
+        for (int w = 0; w < MAX_WINDOWS && streak < WINDOWS; w++) {
+            long bytes = Allocations.during(window);
+            check.run();
+            streak = bytes == 0 ? streak + 1 : 0;
+            seen.append(bytes).append(' ');
+        }
+        assertEquals(WINDOWS, streak, "bytes asignados por ventana: " + seen);
+    }
+
+    // una habitación con el suelo entero y paredes laterales a la altura del jugador
+    private static Rectangle enclosedFloor(RoomDungeon room) {
+        StaticGeometry floors = room.getFloors();
+        StaticGeometry walls = room.getPlatforms();
+        IndexBuffer hits = new IndexBuffer();
+        int t = RoomDungeon.WALL_THICKNESS;
+        for (int f = 0; f < floors.size(); f++) {
+            Rectangle r = floors.toRectangle(f);
+            int bottom = r.y + r.height - t;
+            boolean solidFloor = false;
+            for (int i = 0; i < walls.size(); i++) {
+                if (walls.y(i) == bottom && walls.height(i) == t
+                        && walls.x(i) <= r.x && walls.x(i) + walls.width(i) >= r.x + r.width) solidFloor = true;
+            }
+            boolean leftWall = room.querySolids(r.x, bottom - 40, t, 40, hits) > 0;
+            boolean rightWall = room.querySolids(r.x + r.width - t, bottom - 40, t, 40, hits) > 0;
+            if (solidFloor && leftWall && rightWall) return r;
+        }
+        return fail("ninguna habitación cerrada en la mazmorra de prueba");
+    }
+}
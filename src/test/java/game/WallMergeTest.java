@@ -0,0 +1,60 @@
+package game;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.Rectangle;
+import java.awt.geom.Area;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unir las paredes tras abrir los huecos deja exactamente la misma superficie
+ * sólida, con menos rectángulos, en mazmorras de varias semillas.
+ */
+class WallMergeTest {
+
+    private static final long[] SEEDS = {1, 2, 3, 7, 42, 99, 1337, 2024};
+
+    @Test
+    void mergeKeepsTheSolidAreaAndReducesTheCount() {
+        for (long seed : SEEDS) {
+            RoomDungeon dungeon = new RoomDungeon(seed);
+            List<Rectangle> carved = RoomDungeon.carveOpenings(rawWalls(dungeon), dungeon.getCorridors());
+            List<Rectangle> merged = RoomDungeon.mergeWalls(carved);
+
+            assertTrue(areaOf(carved).equals(areaOf(merged)), "superficie distinta con semilla " + seed);
+            assertTrue(merged.size() < carved.size(),
+                    "semilla " + seed + ": " + carved.size() + " -> " + merged.size());
+            // la sala generada se quedó con las mismas paredes
+            assertEquals(carved.size(), dungeon.getStats().carvedWalls);
+            assertEquals(merged.size(), dungeon.getPlatforms().size());
+        }
+    }
+
+    // mismas paredes y en el mismo orden que al generar: primero las de los pasillos, luego las de las salas
+    private static List<Rectangle> rawWalls(RoomDungeon dungeon) {
+        List<Rectangle> walls = new ArrayList<>();
+        StaticGeometry corridors = dungeon.getCorridors();
+        for (int i = 0; i < corridors.size(); i++) {
+            RoomDungeon.addCorridorWalls(corridors.toRectangle(i), RoomDungeon.WALL_THICKNESS, walls);
+        }
+        StaticGeometry floors = dungeon.getFloors();
+        for (int i = 0; i < floors.size(); i++) {
+            RoomDungeon.addRoomWallsSegmented(floors.toRectangle(i), RoomDungeon.WALL_THICKNESS,
+                    RoomDungeon.SEGMENT, walls);
+        }
+        return walls;
+    }
+
+    // unión por mitades: sumar uno a uno cientos de rectángulos a la misma Area es muy lento
+    private static Area areaOf(List<Rectangle> rects) {
+        if (rects.isEmpty()) return new Area();
+        if (rects.size() == 1) return new Area(rects.get(0));
+        int mid = rects.size() / 2;
+        Area area = areaOf(rects.subList(0, mid));
+        area.add(areaOf(rects.subList(mid, rects.size())));
+        return area;
+    }
+}